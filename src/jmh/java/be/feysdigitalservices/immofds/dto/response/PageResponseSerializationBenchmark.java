@@ -0,0 +1,44 @@
+package be.feysdigitalservices.immofds.dto.response;
+
+import be.feysdigitalservices.immofds.TestDataFactory;
+import be.feysdigitalservices.immofds.mapper.PropertyMapper;
+import be.feysdigitalservices.immofds.mapper.PropertyMapperImpl;
+import be.feysdigitalservices.immofds.repository.PropertySummaryRow;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageResponseSerializationBenchmark {
+
+    @Param({"12", "48"})
+    public int pageSize;
+
+    private JsonMapper jsonMapper;
+    private PageResponse<PropertySummaryResponse> page;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        PropertyMapper mapper = new PropertyMapperImpl();
+        List<PropertySummaryResponse> content = new ArrayList<>(pageSize);
+        PropertySummaryRow row = TestDataFactory.createPropertySummaryRow();
+        for (int i = 0; i < pageSize; i++) {
+            content.add(mapper.toSummaryResponse(row, (long) i + 1));
+        }
+        page = new PageResponse<>(content, 0, pageSize, 1000, 1000 / pageSize + 1, false);
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,61 @@
+package be.feysdigitalservices.immofds.mapper;
+
+import be.feysdigitalservices.immofds.TestDataFactory;
+import be.feysdigitalservices.immofds.domain.entity.Property;
+import be.feysdigitalservices.immofds.domain.entity.PropertyImage;
+import be.feysdigitalservices.immofds.dto.response.PropertyDetailResponse;
+import be.feysdigitalservices.immofds.dto.response.PropertySummaryResponse;
+import be.feysdigitalservices.immofds.repository.PropertySummaryRow;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyMapperBenchmark {
+
+    private PropertyMapper mapper;
+    private Property property;
+    private PropertySummaryRow row;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        mapper = new PropertyMapperImpl();
+        row = TestDataFactory.createPropertySummaryRow();
+        property = TestDataFactory.createProperty();
+        // Timestamps are set by @PrePersist only; the formatting is part of what we measure
+        setTimestamp("createdAt", LocalDateTime.of(2026, 1, 15, 10, 30));
+        setTimestamp("updatedAt", LocalDateTime.of(2026, 2, 1, 8, 0));
+        for (int i = 0; i < 8; i++) {
+            PropertyImage image = new PropertyImage();
+            image.setId((long) i + 1);
+            image.setFileName("photo-" + i + ".jpg");
+            image.setContentType("image/jpeg");
+            image.setDisplayOrder(i);
+            image.setPrimary(i == 0);
+            property.addImage(image);
+        }
+    }
+
+    private void setTimestamp(String field, LocalDateTime value) throws ReflectiveOperationException {
+        Field timestamp = Property.class.getDeclaredField(field);
+        timestamp.setAccessible(true);
+        timestamp.set(property, value);
+    }
+
+    @Benchmark
+    public PropertySummaryResponse toSummaryResponse() {
+        return mapper.toSummaryResponse(row, 1L);
+    }
+
+    @Benchmark
+    public PropertyDetailResponse toDetailResponse() {
+        return mapper.toDetailResponse(property);
+    }
+}
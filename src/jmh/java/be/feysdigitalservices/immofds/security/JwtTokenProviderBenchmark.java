@@ -0,0 +1,49 @@
+package be.feysdigitalservices.immofds.security;
+
+import be.feysdigitalservices.immofds.TestDataFactory;
+import be.feysdigitalservices.immofds.config.JwtConfig;
+import be.feysdigitalservices.immofds.domain.entity.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private VerifiedTokenCache verifiedTokens;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtConfig config = new JwtConfig(
+                "benchmark-secret-key-for-jmh-purposes-only-must-be-at-least-256-bits-long-for-hs256",
+                900000, 604800000, 1000);
+        tokenProvider = new JwtTokenProvider(config);
+        verifiedTokens = new VerifiedTokenCache(tokenProvider, config);
+        user = TestDataFactory.createUser();
+        token = tokenProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public Optional<JwtPrincipal> parseToken() {
+        return tokenProvider.parseToken(token);
+    }
+
+    @Benchmark
+    public Optional<JwtPrincipal> verifyCachedToken() {
+        return verifiedTokens.verify(token);
+    }
+}
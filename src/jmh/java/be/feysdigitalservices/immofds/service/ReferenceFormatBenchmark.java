@@ -0,0 +1,28 @@
+package be.feysdigitalservices.immofds.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReferenceFormatBenchmark {
+
+    @Param({"42", "123456"})
+    public long number;
+
+    @Benchmark
+    public String format() {
+        return ReferenceGeneratorService.format(2026, number);
+    }
+
+    /** What the generator used before, kept as the baseline. */
+    @Benchmark
+    public String stringFormat() {
+        return String.format("IMM-%d-%05d", 2026, number);
+    }
+}
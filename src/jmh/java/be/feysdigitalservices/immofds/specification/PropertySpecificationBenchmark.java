@@ -0,0 +1,79 @@
+package be.feysdigitalservices.immofds.specification;
+
+import be.feysdigitalservices.immofds.domain.entity.Property;
+import be.feysdigitalservices.immofds.domain.enums.*;
+import be.feysdigitalservices.immofds.dto.request.GeoPoint;
+import be.feysdigitalservices.immofds.dto.request.PropertySearchCriteria;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the public search specification {@code PropertyService} uses and evaluates it against a
+ * no-op criteria API, so only our composition and lambdas are measured (Hibernate's own criteria
+ * tree is not).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertySpecificationBenchmark {
+
+    private PropertySearchCriteria criteria;
+    private Root<Property> root;
+    private CriteriaQuery<?> query;
+    private CriteriaBuilder cb;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        criteria = new PropertySearchCriteria(PropertyType.HOUSE, TransactionType.SALE, Province.BRUXELLES_CAPITALE,
+                "Bruxelles", new BigDecimal("200000"), new BigDecimal("500000"), 80.0, null, 2,
+                null, true, null, null, null, null, null, null, new GeoPoint(50.85, 4.35), 10.0, null);
+        root = noOp(Root.class);
+        query = noOp(CriteriaQuery.class);
+        cb = noOp(CriteriaBuilder.class);
+    }
+
+    @Benchmark
+    public Specification<Property> buildPublicSpecification() {
+        return PropertySpecification.publicSearch(criteria);
+    }
+
+    @Benchmark
+    public Predicate buildAndEvaluatePublicSpecification() {
+        return PropertySpecification.publicSearch(criteria).toPredicate(root, query, cb);
+    }
+
+    private static final Map<Class<?>, Object> NO_OPS = new ConcurrentHashMap<>();
+
+    /** One shared proxy per interface; every call returns the no-op of its return type. */
+    private static <T> T noOp(Class<T> type) {
+        return type.cast(NO_OPS.computeIfAbsent(type, t -> Proxy.newProxyInstance(
+                PropertySpecificationBenchmark.class.getClassLoader(), new Class<?>[]{t},
+                (proxy, method, args) -> {
+                    Class<?> returnType = method.getReturnType();
+                    if (returnType == boolean.class) {
+                        return false;
+                    }
+                    if (returnType == int.class) {
+                        return 0;
+                    }
+                    if (returnType.isInterface()) {
+                        return noOp(returnType);
+                    }
+                    return null;
+                })));
+    }
+}
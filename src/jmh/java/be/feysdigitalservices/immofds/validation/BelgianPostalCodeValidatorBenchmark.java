@@ -0,0 +1,29 @@
+package be.feysdigitalservices.immofds.validation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BelgianPostalCodeValidatorBenchmark {
+
+    @Param({"1000", "0999", "12345", "abcd"})
+    public String postalCode;
+
+    private BelgianPostalCodeValidator validator;
+
+    @Setup
+    public void setUp() {
+        validator = new BelgianPostalCodeValidator();
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return validator.isValid(postalCode, null);
+    }
+}
@@ -0,0 +1,104 @@
+package be.feysdigitalservices.immofds.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Latencies recorded by one client thread, merged into a single report at the end of the run so
+ * recording never contends between clients.
+ */
+class LatencyReport {
+
+    private final Map<LoadScenario.Endpoint, long[]> latencies = new EnumMap<>(LoadScenario.Endpoint.class);
+    private final Map<LoadScenario.Endpoint, Integer> counts = new EnumMap<>(LoadScenario.Endpoint.class);
+    private final Map<LoadScenario.Endpoint, Integer> errors = new EnumMap<>(LoadScenario.Endpoint.class);
+
+    void record(LoadScenario.Endpoint endpoint, long nanos, boolean success) {
+        int count = counts.getOrDefault(endpoint, 0);
+        long[] values = latencies.computeIfAbsent(endpoint, e -> new long[1024]);
+        if (count == values.length) {
+            values = Arrays.copyOf(values, count * 2);
+            latencies.put(endpoint, values);
+        }
+        values[count] = nanos;
+        counts.put(endpoint, count + 1);
+        if (!success) {
+            errors.merge(endpoint, 1, Integer::sum);
+        }
+    }
+
+    static LatencyReport merge(List<LatencyReport> reports) {
+        LatencyReport merged = new LatencyReport();
+        for (LatencyReport report : reports) {
+            report.counts.forEach((endpoint, count) -> {
+                long[] values = report.latencies.get(endpoint);
+                for (int i = 0; i < count; i++) {
+                    merged.record(endpoint, values[i], true);
+                }
+            });
+            report.errors.forEach((endpoint, count) -> merged.errors.merge(endpoint, count, Integer::sum));
+        }
+        return merged;
+    }
+
+    record Row(LoadScenario.Endpoint endpoint, int requests, int errors, double throughput,
+               double p50Ms, double p95Ms, double p99Ms, double maxMs) {}
+
+    List<Row> rows(Duration elapsed) {
+        List<Row> rows = new ArrayList<>();
+        for (LoadScenario.Endpoint endpoint : LoadScenario.Endpoint.values()) {
+            int count = counts.getOrDefault(endpoint, 0);
+            if (count == 0) {
+                continue;
+            }
+            long[] sorted = Arrays.copyOf(latencies.get(endpoint), count);
+            Arrays.sort(sorted);
+            rows.add(new Row(endpoint, count, errors.getOrDefault(endpoint, 0),
+                    count / (elapsed.toMillis() / 1000.0),
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    sorted[count - 1] / 1e6));
+        }
+        return rows;
+    }
+
+    double errorRate() {
+        int total = counts.values().stream().mapToInt(Integer::intValue).sum();
+        int failed = errors.values().stream().mapToInt(Integer::intValue).sum();
+        return total == 0 ? 0 : (double) failed / total;
+    }
+
+    void print(Duration elapsed, PrintStream out) {
+        out.printf(Locale.ROOT, "%-14s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (Row row : rows(elapsed)) {
+            out.printf(Locale.ROOT, "%-14s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    row.endpoint(), row.requests(), row.errors(), row.throughput(),
+                    row.p50Ms(), row.p95Ms(), row.p99Ms(), row.maxMs());
+        }
+    }
+
+    void writeCsv(Duration elapsed, Path file) throws IOException {
+        StringBuilder csv = new StringBuilder("endpoint,requests,errors,throughput,p50_ms,p95_ms,p99_ms,max_ms\n");
+        for (Row row : rows(elapsed)) {
+            csv.append(String.format(Locale.ROOT, "%s,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f%n",
+                    row.endpoint(), row.requests(), row.errors(), row.throughput(),
+                    row.p50Ms(), row.p95Ms(), row.p99Ms(), row.maxMs()));
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, csv);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
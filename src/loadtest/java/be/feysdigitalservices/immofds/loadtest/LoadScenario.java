@@ -0,0 +1,161 @@
+package be.feysdigitalservices.immofds.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The request mix replayed by every client: mostly public traffic (search, detail, images), some
+ * contact forms and admin CRUD. Admin updates and deletes only touch properties created during
+ * the run, so the seeded catalogue stays stable.
+ */
+class LoadScenario {
+
+    enum Endpoint {
+        SEARCH(40), DETAIL(20), IMAGE(20), CONTACT(5), ADMIN_LIST(5), ADMIN_CREATE(4), ADMIN_UPDATE(4), ADMIN_DELETE(2);
+
+        private final int weight;
+
+        Endpoint(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final int TOTAL_WEIGHT = 100;
+    private static final Pattern REFERENCE = Pattern.compile("\"reference\"\\s*:\\s*\"([^\"]+)\"");
+    private static final String[] SEARCH_FILTERS = {
+            "", "&transactionType=SALE", "&transactionType=RENT", "&province=BRUXELLES_CAPITALE",
+            "&propertyType=APARTMENT&transactionType=RENT", "&minPrice=200000&maxPrice=400000",
+            "&province=LIEGE&minBedrooms=2", "&garden=true&propertyType=HOUSE", "&sortBy=price&sortDir=asc"
+    };
+    private static final String PROPERTY_JSON = """
+            {"title":"Bien créé en charge","description":"Créé par le test de charge","propertyType":"APARTMENT",
+             "transactionType":"SALE","price":%d,"surface":85.0,"bedrooms":2,"bathrooms":1,"rooms":4,"floors":1,
+             "constructionYear":2010,"energyRating":"C","garden":false,"garage":true,"terrace":true,"basement":false,
+             "elevator":true,"furnished":false,"street":"Rue de la charge","number":"1","postalCode":"1000",
+             "city":"Bruxelles","province":"BRUXELLES_CAPITALE","latitude":50.85,"longitude":4.35}""";
+    private static final String CONTACT_JSON = """
+            {"firstName":"Jean","lastName":"Charge","email":"jean.charge@example.be","phone":"+32470000000",
+             "message":"Demande envoyée par le test de charge"}""";
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final LoadTestSeeder.Catalogue catalogue;
+    private final Supplier<String> adminToken;
+    private final Queue<String> createdReferences = new ConcurrentLinkedQueue<>();
+
+    LoadScenario(HttpClient client, String baseUrl, LoadTestSeeder.Catalogue catalogue, Supplier<String> adminToken) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.catalogue = catalogue;
+        this.adminToken = adminToken;
+    }
+
+    /** Runs requests until {@code deadline} (nanoTime), recording only those started after {@code recordFrom}. */
+    void runClient(long recordFrom, long deadline, LatencyReport report) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            Endpoint endpoint = pick(random.nextInt(TOTAL_WEIGHT));
+            String reference = takeCreatedReference(endpoint);
+            if (reference == null && (endpoint == Endpoint.ADMIN_UPDATE || endpoint == Endpoint.ADMIN_DELETE)) {
+                // Nothing created yet (or all deleted): the admin still lists, and it is measured as a list
+                endpoint = Endpoint.ADMIN_LIST;
+            }
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                success = execute(endpoint, reference, random);
+            } catch (Exception e) {
+                success = false;
+            }
+            if (start >= recordFrom) {
+                report.record(endpoint, System.nanoTime() - start, success);
+            }
+        }
+    }
+
+    private static Endpoint pick(int roll) {
+        for (Endpoint endpoint : Endpoint.values()) {
+            roll -= endpoint.weight;
+            if (roll < 0) {
+                return endpoint;
+            }
+        }
+        return Endpoint.SEARCH;
+    }
+
+    /** Updates reuse a created property, deletes consume one; other endpoints need none. */
+    private String takeCreatedReference(Endpoint endpoint) {
+        return switch (endpoint) {
+            case ADMIN_UPDATE -> createdReferences.peek();
+            case ADMIN_DELETE -> createdReferences.poll();
+            default -> null;
+        };
+    }
+
+    private boolean execute(Endpoint endpoint, String reference, ThreadLocalRandom random) throws Exception {
+        return switch (endpoint) {
+            case SEARCH -> send(get("/api/v1/public/properties?page=" + random.nextInt(5) + "&size=12"
+                    + SEARCH_FILTERS[random.nextInt(SEARCH_FILTERS.length)])) < 300;
+            case DETAIL -> send(get("/api/v1/public/properties/" + randomReference(random))) < 300;
+            case IMAGE -> {
+                LoadTestSeeder.SeededImage image = catalogue.images().get(random.nextInt(catalogue.images().size()));
+                yield send(get("/api/v1/public/properties/" + image.reference() + "/images/" + image.imageId()
+                        + "?size=CARD")) < 300;
+            }
+            case CONTACT -> send(post("/api/v1/public/contacts/general", CONTACT_JSON)) < 300;
+            case ADMIN_LIST -> send(admin(get("/api/v1/admin/properties?page=" + random.nextInt(10) + "&size=20"))) < 300;
+            case ADMIN_CREATE -> {
+                HttpResponse<String> response = client.send(
+                        admin(post("/api/v1/admin/properties", PROPERTY_JSON.formatted(150_000 + random.nextInt(300_000)))).build(),
+                        HttpResponse.BodyHandlers.ofString());
+                Matcher matcher = REFERENCE.matcher(response.body());
+                if (response.statusCode() < 300 && matcher.find()) {
+                    createdReferences.add(matcher.group(1));
+                    yield true;
+                }
+                yield false;
+            }
+            case ADMIN_UPDATE -> send(admin(HttpRequest.newBuilder(uri("/api/v1/admin/properties/" + reference))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(PROPERTY_JSON.formatted(160_000 + random.nextInt(300_000)))))) < 300;
+            case ADMIN_DELETE -> send(admin(HttpRequest.newBuilder(uri("/api/v1/admin/properties/" + reference)).DELETE())) < 300;
+        };
+    }
+
+    private String randomReference(ThreadLocalRandom random) {
+        List<String> references = catalogue.publishedReferences();
+        return references.get(random.nextInt(references.size()));
+    }
+
+    private int send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(uri(path)).timeout(Duration.ofSeconds(30)).GET();
+    }
+
+    private HttpRequest.Builder post(String path, String json) {
+        return HttpRequest.newBuilder(uri(path)).timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private HttpRequest.Builder admin(HttpRequest.Builder request) {
+        return request.header("Authorization", "Bearer " + adminToken.get());
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+}
@@ -0,0 +1,165 @@
+package be.feysdigitalservices.immofds.loadtest;
+
+import be.feysdigitalservices.immofds.ImmoFdsApplication;
+import be.feysdigitalservices.immofds.search.PropertySearchIndex;
+import be.feysdigitalservices.immofds.storage.ImageStorage;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * End-to-end load test: starts an embedded PostgreSQL (real binaries, no Docker), boots the
+ * application on it with the Liquibase changelogs, seeds the catalogue, then replays
+ * {@link LoadScenario} from {@code clients} concurrent clients and prints p50/p95/p99 latency and
+ * throughput per endpoint. Run with {@code mvn -Ploadtest test-compile exec:exec}.
+ *
+ * <p>Options ({@code --name=value}): {@code properties} (5000), {@code images-per-property} (3),
+ * {@code clients} (64), {@code warmup} (PT15S), {@code duration} (PT60S), {@code max-error-rate}
+ * (0.01), {@code report} (target/loadtest-report.csv), {@code profiles} (none, e.g. virtual-threads).
+ * The process exits with status 1 when the error rate is above {@code max-error-rate}.
+ */
+public final class LoadTestMain {
+
+    private static final String ADMIN_EMAIL = "admin@immofds.be";
+    private static final String ADMIN_PASSWORD = "Admin@2026!";
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int propertyCount = Integer.parseInt(options.getOrDefault("properties", "5000"));
+        int imagesPerProperty = Integer.parseInt(options.getOrDefault("images-per-property", "3"));
+        int clients = Integer.parseInt(options.getOrDefault("clients", "64"));
+        Duration warmup = Duration.parse(options.getOrDefault("warmup", "PT15S"));
+        Duration duration = Duration.parse(options.getOrDefault("duration", "PT60S"));
+        double maxErrorRate = Double.parseDouble(options.getOrDefault("max-error-rate", "0.01"));
+        Path reportFile = Path.of(options.getOrDefault("report", "target/loadtest-report.csv"));
+
+        int status;
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             ConfigurableApplicationContext context = startApplication(postgres, options.get("profiles"))) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            System.out.printf("Insertion de %d biens avec %d images chacun...%n", propertyCount, imagesPerProperty);
+            LoadTestSeeder.Catalogue catalogue = new LoadTestSeeder(
+                    context.getBean(JdbcTemplate.class), context.getBean(ImageStorage.class))
+                    .seed(propertyCount, imagesPerProperty);
+            context.getBean(PropertySearchIndex.class).reload();
+
+            HttpClient client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+            LoadScenario scenario = new LoadScenario(client, baseUrl, catalogue, adminToken(client, baseUrl));
+
+            System.out.printf("%d clients : %s de chauffe, %s mesurés...%n", clients, warmup, duration);
+            long recordFrom = System.nanoTime() + warmup.toNanos();
+            long deadline = recordFrom + duration.toNanos();
+            List<LatencyReport> reports = new ArrayList<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> running = new ArrayList<>();
+                for (int i = 0; i < clients; i++) {
+                    LatencyReport report = new LatencyReport();
+                    reports.add(report);
+                    running.add(executor.submit(() -> scenario.runClient(recordFrom, deadline, report)));
+                }
+                for (Future<?> future : running) {
+                    future.get();
+                }
+            }
+
+            LatencyReport merged = LatencyReport.merge(reports);
+            merged.print(duration, System.out);
+            merged.writeCsv(duration, reportFile);
+            System.out.printf("Taux d'erreur %.2f %% (max %.2f %%), rapport écrit dans %s%n",
+                    merged.errorRate() * 100, maxErrorRate * 100, reportFile);
+            status = merged.errorRate() > maxErrorRate ? 1 : 0;
+        }
+        System.exit(status);
+    }
+
+    private static ConfigurableApplicationContext startApplication(EmbeddedPostgres postgres, String profiles)
+            throws Exception {
+        Path images = Files.createTempDirectory("immofds-loadtest-images");
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+        properties.put("spring.datasource.username", "postgres");
+        properties.put("spring.datasource.password", "postgres");
+        properties.put("spring.liquibase.enabled", "true");
+        properties.put("spring.liquibase.change-log", "classpath:db/changelog/db.changelog-master.xml");
+        properties.put("server.port", "0");
+        properties.put("management.server.port", "0");
+        properties.put("image-storage.directory", images.toString());
+        SpringApplicationBuilder application = new SpringApplicationBuilder(ImmoFdsApplication.class)
+                .properties(properties);
+        if (profiles != null) {
+            application.profiles(profiles.split(","));
+        }
+        return application.run();
+    }
+
+    /** Logs in once and again every 10 minutes, before the 15-minute access token expires. */
+    private static Supplier<String> adminToken(HttpClient client, String baseUrl) throws Exception {
+        String[] token = {login(client, baseUrl)};
+        long[] issuedAt = {System.nanoTime()};
+        return () -> {
+            synchronized (token) {
+                if (System.nanoTime() - issuedAt[0] > TimeUnit.MINUTES.toNanos(10)) {
+                    try {
+                        token[0] = login(client, baseUrl);
+                        issuedAt[0] = System.nanoTime();
+                    } catch (Exception e) {
+                        throw new IllegalStateException("Connexion admin impossible", e);
+                    }
+                }
+                return token[0];
+            }
+        };
+    }
+
+    private static String login(HttpClient client, String baseUrl) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + ADMIN_EMAIL + "\",\"password\":\"" + ADMIN_PASSWORD + "\"}"))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = ACCESS_TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("Connexion admin refusée : " + response.statusCode());
+        }
+        return matcher.group(1);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,156 @@
+package be.feysdigitalservices.immofds.loadtest;
+
+import be.feysdigitalservices.immofds.domain.enums.EnergyRating;
+import be.feysdigitalservices.immofds.domain.enums.PropertyType;
+import be.feysdigitalservices.immofds.domain.enums.Province;
+import be.feysdigitalservices.immofds.storage.ImageStorage;
+import be.feysdigitalservices.immofds.storage.StoredImage;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Inserts the load-test catalogue straight through JDBC: {@code properties} rows with varied
+ * attributes (90 % published) and {@code property_images} rows pointing at a handful of distinct
+ * JPEG blobs in the image storage. References use year 2000 so they never collide with the
+ * references the application generates during the run.
+ */
+class LoadTestSeeder {
+
+    private static final int DISTINCT_IMAGES = 16;
+    private static final int BATCH_SIZE = 500;
+
+    private static final String[][] CITIES = {
+            {"Bruxelles", "1000", "BRUXELLES_CAPITALE", "50.8503", "4.3517"},
+            {"Ixelles", "1050", "BRUXELLES_CAPITALE", "50.8333", "4.3667"},
+            {"Wavre", "1300", "BRABANT_WALLON", "50.7167", "4.6000"},
+            {"Louvain", "3000", "BRABANT_FLAMAND", "50.8798", "4.7005"},
+            {"Anvers", "2000", "ANVERS", "51.2194", "4.4025"},
+            {"Hasselt", "3500", "LIMBOURG", "50.9307", "5.3325"},
+            {"Liège", "4000", "LIEGE", "50.6326", "5.5797"},
+            {"Namur", "5000", "NAMUR", "50.4669", "4.8675"},
+            {"Charleroi", "6000", "HAINAUT", "50.4108", "4.4446"},
+            {"Arlon", "6700", "LUXEMBOURG", "49.6833", "5.8167"},
+            {"Bruges", "8000", "FLANDRE_OCCIDENTALE", "51.2093", "3.2247"},
+            {"Gand", "9000", "FLANDRE_ORIENTALE", "51.0543", "3.7174"}
+    };
+
+    record SeededImage(String reference, long imageId) {}
+
+    record Catalogue(List<String> publishedReferences, List<SeededImage> images) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ImageStorage imageStorage;
+    private final Random random = new Random(42);
+
+    LoadTestSeeder(JdbcTemplate jdbcTemplate, ImageStorage imageStorage) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.imageStorage = imageStorage;
+    }
+
+    Catalogue seed(int propertyCount, int imagesPerProperty) throws IOException {
+        insertProperties(propertyCount);
+
+        List<StoredImage> blobs = new ArrayList<>();
+        for (int i = 0; i < DISTINCT_IMAGES; i++) {
+            blobs.add(imageStorage.store(new ByteArrayInputStream(jpeg(i))));
+        }
+
+        List<Object[]> imageRows = new ArrayList<>();
+        List<String> published = new ArrayList<>();
+        List<Object[]> properties = jdbcTemplate.query(
+                "SELECT id, reference, status FROM properties WHERE reference LIKE 'IMM-2000-%' ORDER BY id",
+                (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getString(2), rs.getString(3)});
+        int n = 0;
+        for (Object[] property : properties) {
+            if ("PUBLISHED".equals(property[2])) {
+                published.add((String) property[1]);
+            }
+            for (int j = 0; j < imagesPerProperty; j++) {
+                StoredImage blob = blobs.get(n++ % DISTINCT_IMAGES);
+                imageRows.add(new Object[]{property[0], "photo-" + j + ".jpg", "image/jpeg", blob.key(), blob.size(),
+                        j, j == 0});
+            }
+        }
+        for (int from = 0; from < imageRows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO property_images (property_id, file_name, content_type, storage_key, size_bytes,
+                                                 display_order, is_primary)
+                    VALUES (?, ?, ?, ?, ?, ?, ?)""", imageRows.subList(from, Math.min(from + BATCH_SIZE, imageRows.size())));
+        }
+
+        List<SeededImage> images = jdbcTemplate.query("""
+                SELECT p.reference, i.id FROM property_images i JOIN properties p ON p.id = i.property_id
+                WHERE p.status = 'PUBLISHED' AND p.reference LIKE 'IMM-2000-%'""",
+                (rs, rowNum) -> new SeededImage(rs.getString(1), rs.getLong(2)));
+        return new Catalogue(published, images);
+    }
+
+    private void insertProperties(int count) {
+        PropertyType[] types = PropertyType.values();
+        EnergyRating[] ratings = EnergyRating.values();
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 1; i <= count; i++) {
+            String[] city = CITIES[random.nextInt(CITIES.length)];
+            boolean rent = random.nextInt(4) == 0;
+            BigDecimal price = rent
+                    ? BigDecimal.valueOf(600 + random.nextInt(2400))
+                    : BigDecimal.valueOf(120_000 + random.nextInt(880_000));
+            PropertyType type = types[random.nextInt(types.length)];
+            Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(random.nextInt(525_600)));
+            rows.add(new Object[]{
+                    "IMM-2000-%05d".formatted(i),
+                    type.name() + " à " + city[0],
+                    "Bien de test pour la charge. ".repeat(20 + random.nextInt(60)),
+                    type.name(), rent ? "RENT" : "SALE", random.nextInt(10) == 0 ? "DRAFT" : "PUBLISHED",
+                    price, 40.0 + random.nextInt(260), random.nextInt(6), 1 + random.nextInt(3), 2 + random.nextInt(8),
+                    1 + random.nextInt(3), 1900 + random.nextInt(126), ratings[random.nextInt(ratings.length)].name(),
+                    random.nextBoolean(), random.nextBoolean(), random.nextBoolean(), random.nextBoolean(),
+                    random.nextBoolean(), random.nextInt(5) == 0,
+                    "Rue de test", String.valueOf(1 + random.nextInt(200)), city[1], city[0], city[2],
+                    Double.parseDouble(city[3]) + (random.nextDouble() - 0.5) / 10,
+                    Double.parseDouble(city[4]) + (random.nextDouble() - 0.5) / 10,
+                    createdAt, createdAt
+            });
+            if (rows.size() == BATCH_SIZE || i == count) {
+                jdbcTemplate.batchUpdate("""
+                        INSERT INTO properties (reference, title, description, property_type, transaction_type, status,
+                                                price, surface, bedrooms, bathrooms, rooms, floors, construction_year,
+                                                energy_rating, garden, garage, terrace, basement, elevator, furnished,
+                                                street, number, postal_code, city, province, latitude, longitude,
+                                                created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""",
+                        rows);
+                rows.clear();
+            }
+        }
+    }
+
+    /** A 1600x1200 photo-sized JPEG, different for each seed. */
+    private static byte[] jpeg(int seed) throws IOException {
+        Random shapes = new Random(seed);
+        BufferedImage image = new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        for (int i = 0; i < 200; i++) {
+            g.setColor(new Color(shapes.nextInt(0xFFFFFF)));
+            g.fillOval(shapes.nextInt(1600), shapes.nextInt(1200), 40 + shapes.nextInt(300), 40 + shapes.nextInt(300));
+        }
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,52 @@
+package be.feysdigitalservices.immofds.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncConfig.class);
+
+    public static final String IMAGE_DERIVATIVE_EXECUTOR = "imageDerivativeExecutor";
+    public static final String PASSWORD_VERIFICATION_EXECUTOR = "passwordVerificationExecutor";
+
+    /**
+     * Decoding a full-size photo takes hundreds of MB of heap: two workers at most. Once the queue
+     * is full an image is dropped rather than decoded on the uploading or scheduling thread; the
+     * hourly backfill generates its variants later.
+     */
+    @Bean(name = IMAGE_DERIVATIVE_EXECUTOR)
+    public ThreadPoolTaskExecutor imageDerivativeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("image-derivative-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("File de génération des variantes pleine, image reportée au prochain rattrapage"));
+        return executor;
+    }
+
+    /**
+     * BCrypt is deliberately slow: login checks are capped at a few threads so a burst of logins
+     * cannot take the CPU from the other endpoints. A full queue rejects instead of waiting.
+     */
+    @Bean(name = PASSWORD_VERIFICATION_EXECUTOR)
+    public ThreadPoolTaskExecutor passwordVerificationExecutor(LoginConfig config) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(config.verificationThreads());
+        executor.setMaxPoolSize(config.verificationThreads());
+        executor.setQueueCapacity(config.verificationQueueCapacity());
+        executor.setThreadNamePrefix("password-verification-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,12 @@
+package be.feysdigitalservices.immofds.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "datasource-limiter")
+public record DataSourceLimiterConfig(
+        boolean enabled,
+        int maxConcurrent,
+        Duration acquireTimeout
+) {}
@@ -0,0 +1,32 @@
+package be.feysdigitalservices.immofds.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application {@link DataSource} in a {@link ConnectionLimitingDataSource} when
+ * {@code datasource-limiter.enabled} is set (the {@code virtual-threads} profile does).
+ */
+@Component
+public class DataSourceLimiterPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<DataSourceLimiterConfig> config;
+
+    public DataSourceLimiterPostProcessor(ObjectProvider<DataSourceLimiterConfig> config) {
+        this.config = config;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+            DataSourceLimiterConfig limiter = config.getObject();
+            if (limiter.enabled()) {
+                return new ConnectionLimitingDataSource(dataSource, limiter.maxConcurrent(), limiter.acquireTimeout());
+            }
+        }
+        return bean;
+    }
+}
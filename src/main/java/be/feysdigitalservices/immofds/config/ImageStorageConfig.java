@@ -0,0 +1,13 @@
+package be.feysdigitalservices.immofds.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "image-storage")
+public record ImageStorageConfig(
+        String directory,
+        boolean migrateOnStartup,
+        int migrationBatchSize,
+        Duration orphanGracePeriod
+) {}
@@ -6,5 +6,6 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public record JwtConfig(
         String secret,
         long expirationMs,
-        long refreshExpirationMs
+        long refreshExpirationMs,
+        int verifiedTokenCacheSize
 ) {}
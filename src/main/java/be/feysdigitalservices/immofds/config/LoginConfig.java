@@ -0,0 +1,14 @@
+package be.feysdigitalservices.immofds.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "login")
+public record LoginConfig(
+        int verificationThreads,
+        int verificationQueueCapacity,
+        int maxFailuresPerEmail,
+        int maxFailuresPerIp,
+        Duration failureWindow
+) {}
@@ -0,0 +1,13 @@
+package be.feysdigitalservices.immofds.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "property-cache")
+public record PropertyCacheConfig(
+        int detailMaxSize,
+        Duration detailTtl,
+        long pageMaxBytes,
+        Duration pageTtl
+) {}
@@ -64,6 +64,23 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Actuator endpoints are served on {@code management.server.port}, which is not published
+     * outside the private network; the Prometheus scraper has no credentials.
+     */
+    @Bean
+    @Order(3)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/actuator/**")
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(authorize -> authorize
+                        .anyRequest().permitAll());
+        return http.build();
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration config = new CorsConfiguration();
@@ -0,0 +1,18 @@
+package be.feysdigitalservices.immofds.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "sql-budget")
+public record SqlBudgetConfig(
+        Mode mode
+) {
+
+    public enum Mode {
+        /** Budgets are not checked. */
+        OFF,
+        /** An endpoint over its budget is logged. */
+        WARN,
+        /** An endpoint over its budget fails the request, so the test calling it fails. */
+        FAIL
+    }
+}
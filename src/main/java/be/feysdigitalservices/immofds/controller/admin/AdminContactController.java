@@ -9,7 +9,8 @@ import be.feysdigitalservices.immofds.dto.response.ContactNoteResponse;
 import be.feysdigitalservices.immofds.dto.response.ContactRequestResponse;
 import be.feysdigitalservices.immofds.dto.response.MessageResponse;
 import be.feysdigitalservices.immofds.dto.response.PageResponse;
-import be.feysdigitalservices.immofds.repository.UserRepository;
+import be.feysdigitalservices.immofds.metrics.SqlStatementBudget;
+import be.feysdigitalservices.immofds.security.JwtPrincipal;
 import be.feysdigitalservices.immofds.service.ContactRequestService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,7 +19,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -27,16 +28,14 @@ import org.springframework.web.bind.annotation.*;
 public class AdminContactController {
 
     private final ContactRequestService contactRequestService;
-    private final UserRepository userRepository;
 
-    public AdminContactController(ContactRequestService contactRequestService,
-                                  UserRepository userRepository) {
+    public AdminContactController(ContactRequestService contactRequestService) {
         this.contactRequestService = contactRequestService;
-        this.userRepository = userRepository;
     }
 
     @GetMapping
     @Operation(summary = "Lister les demandes de contact")
+    @SqlStatementBudget(4)
     public ResponseEntity<PageResponse<ContactRequestResponse>> getContacts(
             @RequestParam(required = false) ContactStatus status,
             @RequestParam(required = false) ContactType type,
@@ -53,12 +52,14 @@ public class AdminContactController {
 
     @GetMapping("/{id}")
     @Operation(summary = "Détail d'une demande de contact")
+    @SqlStatementBudget(3)
     public ResponseEntity<ContactRequestResponse> getContact(@PathVariable Long id) {
         return ResponseEntity.ok(contactRequestService.getContactById(id));
     }
 
     @PatchMapping("/{id}/status")
     @Operation(summary = "Modifier le statut d'une demande de contact")
+    @SqlStatementBudget(4)
     public ResponseEntity<ContactRequestResponse> updateStatus(
             @PathVariable Long id,
             @Valid @RequestBody ContactStatusUpdateRequest request) {
@@ -67,37 +68,31 @@ public class AdminContactController {
 
     @PostMapping("/{id}/notes")
     @Operation(summary = "Ajouter une note interne à une demande de contact")
+    @SqlStatementBudget(3)
     public ResponseEntity<ContactNoteResponse> addNote(
             @PathVariable Long id,
             @Valid @RequestBody ContactNoteCreateRequest request,
-            Authentication authentication) {
-        Long authorId = extractUserId(authentication);
+            @AuthenticationPrincipal JwtPrincipal principal) {
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(contactRequestService.addNote(id, request.content(), authorId));
+                .body(contactRequestService.addNote(id, request.content(), principal.userId()));
     }
 
     @PatchMapping("/{id}/notes/{noteId}")
     @Operation(summary = "Modifier la dernière note interne (auteur uniquement)")
+    @SqlStatementBudget(3)
     public ResponseEntity<ContactNoteResponse> updateLastNote(
             @PathVariable Long id,
             @PathVariable Long noteId,
             @Valid @RequestBody ContactNoteUpdateRequest request,
-            Authentication authentication) {
-        Long requestingUserId = extractUserId(authentication);
-        return ResponseEntity.ok(contactRequestService.updateLastNote(id, request.content(), requestingUserId));
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        return ResponseEntity.ok(contactRequestService.updateLastNote(id, request.content(), principal.userId()));
     }
 
     @DeleteMapping("/{id}")
     @Operation(summary = "Supprimer une demande de contact")
+    @SqlStatementBudget(4)
     public ResponseEntity<MessageResponse> deleteContact(@PathVariable Long id) {
         contactRequestService.deleteContact(id);
         return ResponseEntity.ok(new MessageResponse("Demande de contact supprimée avec succès"));
     }
-
-    private Long extractUserId(Authentication authentication) {
-        String email = authentication.getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Utilisateur authentifié non trouvé : " + email))
-                .getId();
-    }
 }
@@ -5,10 +5,12 @@ import be.feysdigitalservices.immofds.dto.request.PropertyCreateRequest;
 import be.feysdigitalservices.immofds.dto.request.PropertySearchCriteria;
 import be.feysdigitalservices.immofds.dto.request.PropertyStatusUpdateRequest;
 import be.feysdigitalservices.immofds.dto.request.PropertyUpdateRequest;
+import be.feysdigitalservices.immofds.dto.response.CursorPageResponse;
 import be.feysdigitalservices.immofds.dto.response.MessageResponse;
 import be.feysdigitalservices.immofds.dto.response.PageResponse;
 import be.feysdigitalservices.immofds.dto.response.PropertyDetailResponse;
 import be.feysdigitalservices.immofds.dto.response.PropertySummaryResponse;
+import be.feysdigitalservices.immofds.metrics.SqlStatementBudget;
 import be.feysdigitalservices.immofds.service.PropertyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -34,6 +36,7 @@ public class AdminPropertyController {
 
     @GetMapping
     @Operation(summary = "Rechercher des biens (admin)")
+    @SqlStatementBudget(3)
     public ResponseEntity<PageResponse<PropertySummaryResponse>> searchProperties(
             @RequestParam(required = false) PropertyType propertyType,
             @RequestParam(required = false) TransactionType transactionType,
@@ -53,7 +56,7 @@ public class AdminPropertyController {
         PropertySearchCriteria criteria = new PropertySearchCriteria(
                 propertyType, transactionType, province, city,
                 minPrice, maxPrice, minSurface, maxSurface, minBedrooms,
-                energyRating, null, null, null, null, null, null);
+                energyRating, null, null, null, null, null, null, null, null, null, null);
 
         Sort sort = sortDir.equalsIgnoreCase("asc") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
         PageRequest pageable = PageRequest.of(page, size, sort);
@@ -61,14 +64,47 @@ public class AdminPropertyController {
         return ResponseEntity.ok(propertyService.searchAdminProperties(criteria, pageable));
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "Parcourir les biens par curseur (admin)")
+    @SqlStatementBudget(3)
+    public ResponseEntity<CursorPageResponse<PropertySummaryResponse>> scrollProperties(
+            @RequestParam(required = false) PropertyType propertyType,
+            @RequestParam(required = false) TransactionType transactionType,
+            @RequestParam(required = false) Province province,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Double minSurface,
+            @RequestParam(required = false) Double maxSurface,
+            @RequestParam(required = false) Integer minBedrooms,
+            @RequestParam(required = false) EnergyRating energyRating,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        PropertySearchCriteria criteria = new PropertySearchCriteria(
+                propertyType, transactionType, province, city,
+                minPrice, maxPrice, minSurface, maxSurface, minBedrooms,
+                energyRating, null, null, null, null, null, null, null, null, null, null);
+
+        Sort.Order order = sortDir.equalsIgnoreCase("asc") ? Sort.Order.asc(sortBy) : Sort.Order.desc(sortBy);
+
+        return ResponseEntity.ok(propertyService.scrollAdminProperties(criteria, cursor, size, order, includeTotal));
+    }
+
     @GetMapping("/{reference}")
     @Operation(summary = "Détail d'un bien par référence (admin)")
+    @SqlStatementBudget(2)
     public ResponseEntity<PropertyDetailResponse> getProperty(@PathVariable String reference) {
         return ResponseEntity.ok(propertyService.getAdminPropertyByReference(reference));
     }
 
     @PostMapping
     @Operation(summary = "Créer un bien")
+    // INSERT, plus la réservation d'un bloc de références toutes les cinquante créations
+    @SqlStatementBudget(2)
     public ResponseEntity<PropertyDetailResponse> createProperty(
             @Valid @RequestBody PropertyCreateRequest request) {
         return ResponseEntity.status(HttpStatus.CREATED)
@@ -77,6 +113,7 @@ public class AdminPropertyController {
 
     @PutMapping("/{reference}")
     @Operation(summary = "Modifier un bien")
+    @SqlStatementBudget(3)
     public ResponseEntity<PropertyDetailResponse> updateProperty(
             @PathVariable String reference,
             @Valid @RequestBody PropertyUpdateRequest request) {
@@ -85,6 +122,7 @@ public class AdminPropertyController {
 
     @PatchMapping("/{reference}/status")
     @Operation(summary = "Modifier le statut d'un bien")
+    @SqlStatementBudget(3)
     public ResponseEntity<PropertyDetailResponse> updateStatus(
             @PathVariable String reference,
             @Valid @RequestBody PropertyStatusUpdateRequest request) {
@@ -93,6 +131,7 @@ public class AdminPropertyController {
 
     @DeleteMapping("/{reference}")
     @Operation(summary = "Archiver un bien")
+    @SqlStatementBudget(2)
     public ResponseEntity<MessageResponse> deleteProperty(@PathVariable String reference) {
         propertyService.deleteProperty(reference);
         return ResponseEntity.ok(new MessageResponse("Bien archivé avec succès"));
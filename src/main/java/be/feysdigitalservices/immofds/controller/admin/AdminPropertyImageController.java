@@ -3,6 +3,7 @@ package be.feysdigitalservices.immofds.controller.admin;
 import be.feysdigitalservices.immofds.dto.request.ImageReorderRequest;
 import be.feysdigitalservices.immofds.dto.response.MessageResponse;
 import be.feysdigitalservices.immofds.dto.response.PropertyImageResponse;
+import be.feysdigitalservices.immofds.metrics.SqlStatementBudget;
 import be.feysdigitalservices.immofds.service.PropertyImageService;
 import be.feysdigitalservices.immofds.validation.ValidImage;
 import io.swagger.v3.oas.annotations.Operation;
@@ -28,12 +29,14 @@ public class AdminPropertyImageController {
 
     @GetMapping
     @Operation(summary = "Lister les images d'un bien")
+    @SqlStatementBudget(2)
     public ResponseEntity<List<PropertyImageResponse>> getImages(@PathVariable String reference) {
         return ResponseEntity.ok(imageService.getImagesByProperty(reference));
     }
 
     @PostMapping
     @Operation(summary = "Uploader une image")
+    @SqlStatementBudget(5)
     public ResponseEntity<PropertyImageResponse> uploadImage(
             @PathVariable String reference,
             @RequestParam("file") @ValidImage MultipartFile file,
@@ -44,6 +47,7 @@ public class AdminPropertyImageController {
 
     @PutMapping("/reorder")
     @Operation(summary = "Réordonner les images")
+    @SqlStatementBudget(3)
     public ResponseEntity<MessageResponse> reorderImages(
             @PathVariable String reference,
             @Valid @RequestBody ImageReorderRequest request) {
@@ -53,6 +57,7 @@ public class AdminPropertyImageController {
 
     @PatchMapping("/{imageId}/primary")
     @Operation(summary = "Définir une image comme principale")
+    @SqlStatementBudget(4)
     public ResponseEntity<MessageResponse> setPrimaryImage(
             @PathVariable String reference,
             @PathVariable Long imageId) {
@@ -62,6 +67,7 @@ public class AdminPropertyImageController {
 
     @DeleteMapping("/{imageId}")
     @Operation(summary = "Supprimer une image")
+    @SqlStatementBudget(3)
     public ResponseEntity<MessageResponse> deleteImage(
             @PathVariable String reference,
             @PathVariable Long imageId) {
@@ -5,6 +5,7 @@ import be.feysdigitalservices.immofds.dto.request.UserUpdateRequest;
 import be.feysdigitalservices.immofds.dto.response.MessageResponse;
 import be.feysdigitalservices.immofds.dto.response.PageResponse;
 import be.feysdigitalservices.immofds.dto.response.UserResponse;
+import be.feysdigitalservices.immofds.metrics.SqlStatementBudget;
 import be.feysdigitalservices.immofds.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -28,6 +29,7 @@ public class AdminUserController {
 
     @GetMapping
     @Operation(summary = "Lister les utilisateurs")
+    @SqlStatementBudget(2)
     public ResponseEntity<PageResponse<UserResponse>> getUsers(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
@@ -42,12 +44,14 @@ public class AdminUserController {
 
     @GetMapping("/{id}")
     @Operation(summary = "Détail d'un utilisateur")
+    @SqlStatementBudget(1)
     public ResponseEntity<UserResponse> getUser(@PathVariable Long id) {
         return ResponseEntity.ok(userService.getUserById(id));
     }
 
     @PostMapping
     @Operation(summary = "Créer un utilisateur")
+    @SqlStatementBudget(2)
     public ResponseEntity<UserResponse> createUser(@Valid @RequestBody UserCreateRequest request) {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(userService.createUser(request));
@@ -55,6 +59,7 @@ public class AdminUserController {
 
     @PutMapping("/{id}")
     @Operation(summary = "Modifier un utilisateur")
+    @SqlStatementBudget(3)
     public ResponseEntity<UserResponse> updateUser(
             @PathVariable Long id,
             @Valid @RequestBody UserUpdateRequest request) {
@@ -63,6 +68,7 @@ public class AdminUserController {
 
     @DeleteMapping("/{id}")
     @Operation(summary = "Supprimer un utilisateur")
+    @SqlStatementBudget(2)
     public ResponseEntity<MessageResponse> deleteUser(@PathVariable Long id) {
         userService.deleteUser(id);
         return ResponseEntity.ok(new MessageResponse("Utilisateur supprimé avec succès"));
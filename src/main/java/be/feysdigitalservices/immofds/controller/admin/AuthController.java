@@ -4,9 +4,11 @@ import be.feysdigitalservices.immofds.dto.request.LoginRequest;
 import be.feysdigitalservices.immofds.dto.request.RefreshTokenRequest;
 import be.feysdigitalservices.immofds.dto.response.AuthResponse;
 import be.feysdigitalservices.immofds.dto.response.MessageResponse;
+import be.feysdigitalservices.immofds.metrics.SqlStatementBudget;
 import be.feysdigitalservices.immofds.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -24,18 +26,22 @@ public class AuthController {
 
     @PostMapping("/login")
     @Operation(summary = "Connexion - Obtenir un JWT")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
-        return ResponseEntity.ok(authService.login(request));
+    @SqlStatementBudget(2)
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request,
+                                              HttpServletRequest httpRequest) {
+        return ResponseEntity.ok(authService.login(request, httpRequest.getRemoteAddr()));
     }
 
     @PostMapping("/refresh")
     @Operation(summary = "Rafraîchir le token d'accès")
+    @SqlStatementBudget(3)
     public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
         return ResponseEntity.ok(authService.refresh(request));
     }
 
     @PostMapping("/logout")
     @Operation(summary = "Déconnexion - Invalider le refresh token")
+    @SqlStatementBudget(1)
     public ResponseEntity<MessageResponse> logout(@Valid @RequestBody RefreshTokenRequest request) {
         authService.logout(request.refreshToken());
         return ResponseEntity.ok(new MessageResponse("Déconnexion réussie"));
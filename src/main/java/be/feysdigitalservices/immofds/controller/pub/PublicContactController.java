@@ -4,6 +4,7 @@ import be.feysdigitalservices.immofds.dto.request.GeneralContactRequest;
 import be.feysdigitalservices.immofds.dto.request.SellYourHomeRequest;
 import be.feysdigitalservices.immofds.dto.request.VisitRequestDto;
 import be.feysdigitalservices.immofds.dto.response.ContactRequestResponse;
+import be.feysdigitalservices.immofds.metrics.SqlStatementBudget;
 import be.feysdigitalservices.immofds.service.ContactRequestService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -25,6 +26,7 @@ public class PublicContactController {
 
     @PostMapping("/general")
     @Operation(summary = "Envoyer un formulaire de contact général")
+    @SqlStatementBudget(1)
     public ResponseEntity<ContactRequestResponse> submitGeneralContact(
             @Valid @RequestBody GeneralContactRequest request) {
         return ResponseEntity.status(HttpStatus.CREATED)
@@ -33,6 +35,7 @@ public class PublicContactController {
 
     @PostMapping("/sell-your-home")
     @Operation(summary = "Envoyer un formulaire 'Vendre votre bien'")
+    @SqlStatementBudget(1)
     public ResponseEntity<ContactRequestResponse> submitSellYourHome(
             @Valid @RequestBody SellYourHomeRequest request) {
         return ResponseEntity.status(HttpStatus.CREATED)
@@ -41,6 +44,7 @@ public class PublicContactController {
 
     @PostMapping("/visit-request")
     @Operation(summary = "Envoyer une demande de visite")
+    @SqlStatementBudget(1)
     public ResponseEntity<ContactRequestResponse> submitVisitRequest(
             @Valid @RequestBody VisitRequestDto request) {
         return ResponseEntity.status(HttpStatus.CREATED)
@@ -1,25 +1,38 @@
 package be.feysdigitalservices.immofds.controller.pub;
 
-import be.feysdigitalservices.immofds.domain.entity.PropertyImage;
 import be.feysdigitalservices.immofds.domain.enums.*;
 import be.feysdigitalservices.immofds.dto.request.PropertySearchCriteria;
+import be.feysdigitalservices.immofds.dto.request.PropertySearchParams;
 import be.feysdigitalservices.immofds.dto.response.EnumValueResponse;
+import be.feysdigitalservices.immofds.dto.response.CursorPageResponse;
+import be.feysdigitalservices.immofds.dto.response.LocationSuggestionResponse;
 import be.feysdigitalservices.immofds.dto.response.PageResponse;
 import be.feysdigitalservices.immofds.dto.response.PropertyDetailResponse;
+import be.feysdigitalservices.immofds.dto.response.PropertyFacetsResponse;
+import be.feysdigitalservices.immofds.dto.response.PropertyMapResponse;
 import be.feysdigitalservices.immofds.dto.response.PropertySummaryResponse;
+import be.feysdigitalservices.immofds.metrics.SqlStatementBudget;
+import be.feysdigitalservices.immofds.repository.PropertyImageMetadata;
+import be.feysdigitalservices.immofds.service.PropertyDetailCache;
 import be.feysdigitalservices.immofds.service.PropertyImageService;
+import be.feysdigitalservices.immofds.service.PropertySearchPageCache;
 import be.feysdigitalservices.immofds.service.PropertyService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.*;
 
-import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -31,66 +44,124 @@ public class PublicPropertyController {
 
     private final PropertyService propertyService;
     private final PropertyImageService propertyImageService;
+    private final PropertySearchPageCache searchPageCache;
+    private final PropertyDetailCache detailCache;
 
-    public PublicPropertyController(PropertyService propertyService, PropertyImageService propertyImageService) {
+    public PublicPropertyController(PropertyService propertyService, PropertyImageService propertyImageService,
+                                    PropertySearchPageCache searchPageCache, PropertyDetailCache detailCache) {
         this.propertyService = propertyService;
         this.propertyImageService = propertyImageService;
+        this.searchPageCache = searchPageCache;
+        this.detailCache = detailCache;
     }
 
     @GetMapping
     @Operation(summary = "Rechercher des biens avec filtres")
-    public ResponseEntity<PageResponse<PropertySummaryResponse>> searchProperties(
-            @RequestParam(required = false) PropertyType propertyType,
-            @RequestParam(required = false) TransactionType transactionType,
-            @RequestParam(required = false) Province province,
-            @RequestParam(required = false) String city,
-            @RequestParam(required = false) BigDecimal minPrice,
-            @RequestParam(required = false) BigDecimal maxPrice,
-            @RequestParam(required = false) Double minSurface,
-            @RequestParam(required = false) Double maxSurface,
-            @RequestParam(required = false) Integer minBedrooms,
-            @RequestParam(required = false) EnergyRating energyRating,
-            @RequestParam(required = false) Boolean garden,
-            @RequestParam(required = false) Boolean garage,
-            @RequestParam(required = false) Boolean terrace,
-            @RequestParam(required = false) Boolean basement,
-            @RequestParam(required = false) Boolean elevator,
-            @RequestParam(required = false) Boolean furnished,
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = PageResponse.class)))
+    @SqlStatementBudget(3)
+    public ResponseEntity<byte[]> searchProperties(
+            @ParameterObject @ModelAttribute PropertySearchParams params,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "12") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "desc") String sortDir) {
 
-        PropertySearchCriteria criteria = new PropertySearchCriteria(
-                propertyType, transactionType, province, city,
-                minPrice, maxPrice, minSurface, maxSurface, minBedrooms,
-                energyRating, garden, garage, terrace, basement, elevator, furnished);
+        PropertySearchCriteria criteria = params.toCriteria();
 
         Sort sort = sortDir.equalsIgnoreCase("asc") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
         PageRequest pageable = PageRequest.of(page, size, sort);
 
-        return ResponseEntity.ok(propertyService.searchPublicProperties(criteria, pageable));
+        PropertySearchPageCache.SerializedPage result = searchPageCache.get(criteria, pageable);
+        return ResponseEntity.ok()
+                .eTag(result.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(result.json());
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "Parcourir les biens par curseur (pagination sans offset)")
+    @SqlStatementBudget(3)
+    public ResponseEntity<CursorPageResponse<PropertySummaryResponse>> scrollProperties(
+            @ParameterObject @ModelAttribute PropertySearchParams params,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        PropertySearchCriteria criteria = params.toCriteria();
+
+        Sort.Order order = sortDir.equalsIgnoreCase("asc") ? Sort.Order.asc(sortBy) : Sort.Order.desc(sortBy);
+
+        return ResponseEntity.ok(propertyService.scrollPublicProperties(criteria, cursor, size, order, includeTotal));
+    }
+
+    @GetMapping("/facets")
+    @Operation(summary = "Nombre de biens par valeur de filtre pour la recherche courante")
+    @SqlStatementBudget(1)
+    public ResponseEntity<PropertyFacetsResponse> getFacets(
+            @ParameterObject @ModelAttribute PropertySearchParams params) {
+        return ResponseEntity.ok(propertyService.getPublicFacets(params.toCriteria()));
+    }
+
+    @GetMapping("/map")
+    @Operation(summary = "Marqueurs regroupés des biens visibles sur la carte")
+    @SqlStatementBudget(1)
+    public ResponseEntity<PropertyMapResponse> getMap(
+            @RequestParam int zoom,
+            @ParameterObject @ModelAttribute PropertySearchParams params) throws MissingServletRequestParameterException {
+
+        PropertySearchCriteria criteria = params.toCriteria();
+        if (criteria.bounds() == null) {
+            throw new MissingServletRequestParameterException("bbox", "String");
+        }
+
+        return ResponseEntity.ok(propertyService.getPublicMap(criteria, zoom));
+    }
+
+    @GetMapping("/locations")
+    @Operation(summary = "Autocomplétion des codes postaux et communes ayant des biens publiés")
+    @SqlStatementBudget(1)
+    public ResponseEntity<List<LocationSuggestionResponse>> suggestLocations(
+            @RequestParam String q,
+            @RequestParam(required = false) Province province,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(propertyService.suggestLocations(q, province, limit));
     }
 
     @GetMapping("/{reference}")
     @Operation(summary = "Détail d'un bien par référence")
-    public ResponseEntity<PropertyDetailResponse> getPropertyByReference(@PathVariable String reference) {
-        return ResponseEntity.ok(propertyService.getPublicPropertyByReference(reference));
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = PropertyDetailResponse.class)))
+    @SqlStatementBudget(2)
+    public ResponseEntity<byte[]> getPropertyByReference(@PathVariable String reference) {
+        PropertyDetailCache.SerializedDetail detail = detailCache.get(reference);
+        return ResponseEntity.ok()
+                .eTag(detail.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(detail.json());
     }
 
     @GetMapping("/{reference}/images/{imageId}")
     @Operation(summary = "Télécharger une image d'un bien")
-    public ResponseEntity<byte[]> getImage(@PathVariable String reference, @PathVariable Long imageId) {
-        PropertyImage image = propertyImageService.getImage(imageId);
+    // Une image encore en BYTEA ajoute une lecture par bloc de 256 Ko : hors budget tant qu'elle n'est pas migrée
+    @SqlStatementBudget(2)
+    public ResponseEntity<Resource> getImage(@PathVariable String reference, @PathVariable Long imageId,
+                                             @RequestParam(required = false) ImageSize size) {
+        PropertyImageMetadata image = propertyImageService.getImage(imageId, size);
+        // ETag -> 304 on If-None-Match, Resource body -> 206 on Range (handled by Spring MVC)
         return ResponseEntity.ok()
                 .cacheControl(CacheControl.maxAge(7, TimeUnit.DAYS).cachePublic())
-                .contentType(MediaType.parseMediaType(image.getContentType()))
-                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + image.getFileName() + "\"")
-                .body(image.getData());
+                .eTag(image.etag())
+                .contentType(MediaType.parseMediaType(image.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + image.fileName() + "\"")
+                .body(propertyImageService.getImageContent(image));
     }
 
     @GetMapping("/types")
     @Operation(summary = "Liste des types de biens")
+    @SqlStatementBudget(0)
     public ResponseEntity<List<EnumValueResponse>> getPropertyTypes() {
         List<EnumValueResponse> types = Arrays.stream(PropertyType.values())
                 .map(t -> new EnumValueResponse(t.name(), t.getLabel()))
@@ -100,6 +171,7 @@ public class PublicPropertyController {
 
     @GetMapping("/provinces")
     @Operation(summary = "Liste des provinces belges")
+    @SqlStatementBudget(0)
     public ResponseEntity<List<EnumValueResponse>> getProvinces() {
         List<EnumValueResponse> provinces = Arrays.stream(Province.values())
                 .map(p -> new EnumValueResponse(p.name(), p.getLabel()))
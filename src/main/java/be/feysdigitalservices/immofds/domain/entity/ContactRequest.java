@@ -4,6 +4,7 @@ import be.feysdigitalservices.immofds.domain.enums.ContactStatus;
 import be.feysdigitalservices.immofds.domain.enums.ContactType;
 import be.feysdigitalservices.immofds.domain.enums.PropertyType;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -55,6 +56,7 @@ public class ContactRequest {
     @OneToMany(mappedBy = "contactRequest", cascade = CascadeType.ALL,
                orphanRemoval = true, fetch = FetchType.LAZY)
     @OrderBy("createdAt ASC")
+    @BatchSize(size = 50)
     private List<ContactNote> notes = new ArrayList<>();
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -16,9 +16,11 @@ public class PropertyImage {
     @Column(name = "content_type", nullable = false, length = 100)
     private String contentType;
 
-    @Basic(fetch = FetchType.LAZY)
-    @Column(nullable = false, columnDefinition = "BYTEA")
-    private byte[] data;
+    @Column(name = "storage_key", length = 64)
+    private String storageKey;
+
+    @Column(name = "size_bytes")
+    private Long sizeBytes;
 
     @Column(name = "display_order", nullable = false)
     private int displayOrder;
@@ -26,6 +28,9 @@ public class PropertyImage {
     @Column(name = "is_primary", nullable = false)
     private boolean isPrimary;
 
+    @Column(name = "variants_unsupported", nullable = false)
+    private boolean variantsUnsupported;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "property_id", nullable = false)
     private Property property;
@@ -41,8 +46,11 @@ public class PropertyImage {
     public String getContentType() { return contentType; }
     public void setContentType(String contentType) { this.contentType = contentType; }
 
-    public byte[] getData() { return data; }
-    public void setData(byte[] data) { this.data = data; }
+    public String getStorageKey() { return storageKey; }
+    public void setStorageKey(String storageKey) { this.storageKey = storageKey; }
+
+    public Long getSizeBytes() { return sizeBytes; }
+    public void setSizeBytes(Long sizeBytes) { this.sizeBytes = sizeBytes; }
 
     public int getDisplayOrder() { return displayOrder; }
     public void setDisplayOrder(int displayOrder) { this.displayOrder = displayOrder; }
@@ -50,6 +58,9 @@ public class PropertyImage {
     public boolean isPrimary() { return isPrimary; }
     public void setPrimary(boolean primary) { isPrimary = primary; }
 
+    public boolean isVariantsUnsupported() { return variantsUnsupported; }
+    public void setVariantsUnsupported(boolean variantsUnsupported) { this.variantsUnsupported = variantsUnsupported; }
+
     public Property getProperty() { return property; }
     public void setProperty(Property property) { this.property = property; }
 }
@@ -0,0 +1,62 @@
+package be.feysdigitalservices.immofds.domain.entity;
+
+import be.feysdigitalservices.immofds.domain.enums.ImageSize;
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "property_image_variants")
+public class PropertyImageVariant {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "image_id", nullable = false)
+    private PropertyImage image;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "image_size", nullable = false, length = 20)
+    private ImageSize imageSize;
+
+    @Column(name = "storage_key", nullable = false, length = 64)
+    private String storageKey;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private int width;
+
+    @Column(nullable = false)
+    private int height;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    // Getters and Setters
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public PropertyImage getImage() { return image; }
+    public void setImage(PropertyImage image) { this.image = image; }
+
+    public ImageSize getImageSize() { return imageSize; }
+    public void setImageSize(ImageSize imageSize) { this.imageSize = imageSize; }
+
+    public String getStorageKey() { return storageKey; }
+    public void setStorageKey(String storageKey) { this.storageKey = storageKey; }
+
+    public String getContentType() { return contentType; }
+    public void setContentType(String contentType) { this.contentType = contentType; }
+
+    public int getWidth() { return width; }
+    public void setWidth(int width) { this.width = width; }
+
+    public int getHeight() { return height; }
+    public void setHeight(int height) { this.height = height; }
+
+    public long getSizeBytes() { return sizeBytes; }
+    public void setSizeBytes(long sizeBytes) { this.sizeBytes = sizeBytes; }
+}
@@ -2,10 +2,12 @@ package be.feysdigitalservices.immofds.domain.entity;
 
 import be.feysdigitalservices.immofds.domain.enums.UserRole;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "users")
+@BatchSize(size = 50)
 public class User {
 
     @Id
@@ -31,6 +33,9 @@ public class User {
     @Column(nullable = false)
     private boolean active;
 
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -74,6 +79,9 @@ public class User {
     public boolean isActive() { return active; }
     public void setActive(boolean active) { this.active = active; }
 
+    public int getTokenVersion() { return tokenVersion; }
+    public void setTokenVersion(int tokenVersion) { this.tokenVersion = tokenVersion; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
 }
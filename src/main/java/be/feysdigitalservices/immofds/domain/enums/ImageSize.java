@@ -0,0 +1,24 @@
+package be.feysdigitalservices.immofds.domain.enums;
+
+public enum ImageSize {
+    THUMBNAIL("Miniature", 160),
+    CARD("Carte", 480),
+    DETAIL("Détail", 1024),
+    FULL("Plein écran", 1920);
+
+    private final String label;
+    private final int maxDimension;
+
+    ImageSize(String label, int maxDimension) {
+        this.label = label;
+        this.maxDimension = maxDimension;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+}
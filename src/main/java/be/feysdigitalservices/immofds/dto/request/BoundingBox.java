@@ -0,0 +1,29 @@
+package be.feysdigitalservices.immofds.dto.request;
+
+import be.feysdigitalservices.immofds.exception.InvalidOperationException;
+
+/**
+ * A map viewport given as {@code west,south,east,north}, the order of GeoJSON and of Leaflet's
+ * {@code LatLngBounds.toBBoxString()}. Viewports crossing the antimeridian are not supported.
+ */
+public record BoundingBox(double west, double south, double east, double north) {
+
+    public BoundingBox {
+        if (south < -90 || north > 90 || west < -180 || east > 180 || south > north || west > east) {
+            throw new InvalidOperationException("Zone géographique invalide : " + west + "," + south + ","
+                    + east + "," + north);
+        }
+    }
+
+    public static BoundingBox parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        double[] parts = GeoFormat.parseDoubles(value, 4, "ouest,sud,est,nord");
+        return new BoundingBox(parts[0], parts[1], parts[2], parts[3]);
+    }
+
+    public boolean contains(double latitude, double longitude) {
+        return latitude >= south && latitude <= north && longitude >= west && longitude <= east;
+    }
+}
@@ -0,0 +1,33 @@
+package be.feysdigitalservices.immofds.dto.request;
+
+import be.feysdigitalservices.immofds.exception.InvalidOperationException;
+
+import java.util.Arrays;
+
+final class GeoFormat {
+
+    private GeoFormat() {}
+
+    static double[] parseDoubles(String value, int count, String expected) {
+        String[] parts = value.split(",", -1);
+        if (parts.length != count) {
+            throw invalid(value, expected);
+        }
+        double[] numbers = new double[count];
+        try {
+            for (int i = 0; i < count; i++) {
+                numbers[i] = Double.parseDouble(parts[i].strip());
+            }
+        } catch (NumberFormatException e) {
+            throw invalid(value, expected);
+        }
+        if (!Arrays.stream(numbers).allMatch(Double::isFinite)) {
+            throw invalid(value, expected);
+        }
+        return numbers;
+    }
+
+    private static InvalidOperationException invalid(String value, String expected) {
+        return new InvalidOperationException("Format géographique invalide : " + value + " (attendu : " + expected + ")");
+    }
+}
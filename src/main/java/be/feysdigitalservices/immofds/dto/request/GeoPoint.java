@@ -0,0 +1,43 @@
+package be.feysdigitalservices.immofds.dto.request;
+
+import be.feysdigitalservices.immofds.exception.InvalidOperationException;
+
+/**
+ * A WGS84 position given as {@code lat,lon}. Distances use the equirectangular approximation around this
+ * point, which stays well under 1% off over Belgian distances and is cheap enough to evaluate in SQL too.
+ */
+public record GeoPoint(double latitude, double longitude) {
+
+    public static final double KM_PER_DEGREE = 111.195;
+
+    public GeoPoint {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new InvalidOperationException("Coordonnées hors limites : " + latitude + "," + longitude);
+        }
+    }
+
+    public static GeoPoint parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        double[] parts = GeoFormat.parseDoubles(value, 2, "lat,lon");
+        return new GeoPoint(parts[0], parts[1]);
+    }
+
+    public double kmPerDegreeOfLongitude() {
+        return KM_PER_DEGREE * Math.cos(Math.toRadians(latitude));
+    }
+
+    public double distanceKm(double otherLatitude, double otherLongitude) {
+        double dy = (otherLatitude - latitude) * KM_PER_DEGREE;
+        double dx = (otherLongitude - longitude) * kmPerDegreeOfLongitude();
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    public BoundingBox boundsWithin(double radiusKm) {
+        double dLat = radiusKm / KM_PER_DEGREE;
+        double dLon = radiusKm / kmPerDegreeOfLongitude();
+        return new BoundingBox(Math.max(longitude - dLon, -180), Math.max(latitude - dLat, -90),
+                Math.min(longitude + dLon, 180), Math.min(latitude + dLat, 90));
+    }
+}
@@ -1,6 +1,7 @@
 package be.feysdigitalservices.immofds.dto.request;
 
 import be.feysdigitalservices.immofds.domain.enums.*;
+import be.feysdigitalservices.immofds.exception.InvalidOperationException;
 
 import java.math.BigDecimal;
 
@@ -20,5 +21,16 @@ public record PropertySearchCriteria(
         Boolean terrace,
         Boolean basement,
         Boolean elevator,
-        Boolean furnished
-) {}
+        Boolean furnished,
+        String q,
+        GeoPoint near,
+        Double radiusKm,
+        BoundingBox bounds
+) {
+
+    public PropertySearchCriteria {
+        if (radiusKm != null && (near == null || radiusKm <= 0)) {
+            throw new InvalidOperationException("Le rayon de recherche doit être positif et accompagné du paramètre near");
+        }
+    }
+}
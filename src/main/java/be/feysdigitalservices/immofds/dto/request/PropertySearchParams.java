@@ -0,0 +1,41 @@
+package be.feysdigitalservices.immofds.dto.request;
+
+import be.feysdigitalservices.immofds.domain.enums.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Filters of the public searches as they arrive in the query string ({@code near} as {@code lat,lon},
+ * {@code bbox} as {@code west,south,east,north}), bound once with {@code @ModelAttribute}.
+ */
+public record PropertySearchParams(
+        String q,
+        PropertyType propertyType,
+        TransactionType transactionType,
+        Province province,
+        String city,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        Double minSurface,
+        Double maxSurface,
+        Integer minBedrooms,
+        EnergyRating energyRating,
+        Boolean garden,
+        Boolean garage,
+        Boolean terrace,
+        Boolean basement,
+        Boolean elevator,
+        Boolean furnished,
+        String near,
+        Double radiusKm,
+        String bbox
+) {
+
+    public PropertySearchCriteria toCriteria() {
+        return new PropertySearchCriteria(
+                propertyType, transactionType, province, city,
+                minPrice, maxPrice, minSurface, maxSurface, minBedrooms,
+                energyRating, garden, garage, terrace, basement, elevator, furnished, q,
+                GeoPoint.parse(near), radiusKm, BoundingBox.parse(bbox));
+    }
+}
@@ -0,0 +1,11 @@
+package be.feysdigitalservices.immofds.dto.response;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean last,
+        Long totalElements
+) {}
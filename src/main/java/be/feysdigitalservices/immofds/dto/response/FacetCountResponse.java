@@ -0,0 +1,7 @@
+package be.feysdigitalservices.immofds.dto.response;
+
+public record FacetCountResponse(
+        String value,
+        String label,
+        long count
+) {}
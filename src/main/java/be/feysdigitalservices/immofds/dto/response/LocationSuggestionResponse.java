@@ -0,0 +1,9 @@
+package be.feysdigitalservices.immofds.dto.response;
+
+public record LocationSuggestionResponse(
+        String postalCode,
+        String city,
+        String province,
+        String provinceLabel,
+        long count
+) {}
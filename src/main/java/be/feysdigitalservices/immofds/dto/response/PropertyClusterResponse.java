@@ -0,0 +1,11 @@
+package be.feysdigitalservices.immofds.dto.response;
+
+import java.math.BigDecimal;
+
+public record PropertyClusterResponse(
+        double latitude,
+        double longitude,
+        long count,
+        BigDecimal minPrice,
+        BigDecimal maxPrice
+) {}
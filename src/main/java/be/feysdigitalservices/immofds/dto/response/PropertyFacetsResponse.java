@@ -0,0 +1,14 @@
+package be.feysdigitalservices.immofds.dto.response;
+
+import java.util.List;
+
+public record PropertyFacetsResponse(
+        long totalElements,
+        List<FacetCountResponse> propertyTypes,
+        List<FacetCountResponse> transactionTypes,
+        List<FacetCountResponse> provinces,
+        List<FacetCountResponse> energyRatings,
+        List<FacetCountResponse> amenities,
+        List<RangeFacetCountResponse> priceRanges,
+        List<RangeFacetCountResponse> surfaceRanges
+) {}
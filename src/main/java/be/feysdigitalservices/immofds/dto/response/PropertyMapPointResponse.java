@@ -0,0 +1,10 @@
+package be.feysdigitalservices.immofds.dto.response;
+
+import java.math.BigDecimal;
+
+public record PropertyMapPointResponse(
+        String reference,
+        double latitude,
+        double longitude,
+        BigDecimal price
+) {}
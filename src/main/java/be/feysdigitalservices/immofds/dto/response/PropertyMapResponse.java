@@ -0,0 +1,9 @@
+package be.feysdigitalservices.immofds.dto.response;
+
+import java.util.List;
+
+public record PropertyMapResponse(
+        long totalElements,
+        List<PropertyClusterResponse> clusters,
+        List<PropertyMapPointResponse> points
+) {}
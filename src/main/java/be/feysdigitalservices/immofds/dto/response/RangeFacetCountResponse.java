@@ -0,0 +1,9 @@
+package be.feysdigitalservices.immofds.dto.response;
+
+import java.math.BigDecimal;
+
+public record RangeFacetCountResponse(
+        BigDecimal from,
+        BigDecimal to,
+        long count
+) {}
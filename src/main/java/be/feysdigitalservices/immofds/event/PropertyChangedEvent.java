@@ -0,0 +1,5 @@
+package be.feysdigitalservices.immofds.event;
+
+import be.feysdigitalservices.immofds.domain.entity.Property;
+
+public record PropertyChangedEvent(Property property) {}
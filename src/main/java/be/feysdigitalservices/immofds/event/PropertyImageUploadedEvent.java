@@ -0,0 +1,3 @@
+package be.feysdigitalservices.immofds.event;
+
+public record PropertyImageUploadedEvent(Long imageId, String storageKey) {}
@@ -0,0 +1,7 @@
+package be.feysdigitalservices.immofds.event;
+
+/**
+ * Published when a user is created, updated or deleted; {@code tokenVersion} is {@code null} once the
+ * user is deleted.
+ */
+public record UserTokenVersionChangedEvent(Long userId, Integer tokenVersion) {}
@@ -1,12 +1,14 @@
 package be.feysdigitalservices.immofds.exception;
 
 import be.feysdigitalservices.immofds.dto.response.ApiErrorResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
@@ -40,6 +42,13 @@ public class GlobalExceptionHandler {
                 .body(new ApiErrorResponse(401, ex.getMessage()));
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiErrorResponse> handleTooManyRequests(TooManyRequestsException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfter().toSeconds()))
+                .body(new ApiErrorResponse(429, ex.getMessage()));
+    }
+
     @ExceptionHandler(ImageProcessingException.class)
     public ResponseEntity<ApiErrorResponse> handleImageProcessing(ImageProcessingException ex) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -67,6 +76,12 @@ public class GlobalExceptionHandler {
                 .body(new ApiErrorResponse(400, "Erreur de validation", errors));
     }
 
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<ApiErrorResponse> handleMissingParameter(MissingServletRequestParameterException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ApiErrorResponse(400, "Paramètre obligatoire manquant : " + ex.getParameterName()));
+    }
+
     @ExceptionHandler(MaxUploadSizeExceededException.class)
     public ResponseEntity<ApiErrorResponse> handleMaxUploadSize(MaxUploadSizeExceededException ex) {
         return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
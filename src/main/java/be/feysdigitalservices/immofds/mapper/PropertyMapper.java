@@ -6,6 +6,7 @@ import be.feysdigitalservices.immofds.dto.request.PropertyCreateRequest;
 import be.feysdigitalservices.immofds.dto.response.PropertyDetailResponse;
 import be.feysdigitalservices.immofds.dto.response.PropertyImageResponse;
 import be.feysdigitalservices.immofds.dto.response.PropertySummaryResponse;
+import be.feysdigitalservices.immofds.repository.PropertySummaryRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
@@ -25,14 +26,14 @@ public interface PropertyMapper {
     @Mapping(target = "images", ignore = true)
     Property toEntity(PropertyCreateRequest request);
 
-    @Mapping(target = "propertyType", expression = "java(property.getPropertyType().name())")
-    @Mapping(target = "transactionType", expression = "java(property.getTransactionType().name())")
-    @Mapping(target = "status", expression = "java(property.getStatus().name())")
-    @Mapping(target = "province", expression = "java(property.getProvince().name())")
-    @Mapping(target = "energyRating", expression = "java(property.getEnergyRating() != null ? property.getEnergyRating().name() : null)")
-    @Mapping(target = "primaryImageId", expression = "java(getPrimaryImageId(property))")
-    @Mapping(target = "createdAt", source = "createdAt", qualifiedByName = "formatDateTime")
-    PropertySummaryResponse toSummaryResponse(Property property);
+    @Mapping(target = "propertyType", expression = "java(row.propertyType().name())")
+    @Mapping(target = "transactionType", expression = "java(row.transactionType().name())")
+    @Mapping(target = "status", expression = "java(row.status().name())")
+    @Mapping(target = "province", expression = "java(row.province().name())")
+    @Mapping(target = "energyRating", expression = "java(row.energyRating() != null ? row.energyRating().name() : null)")
+    @Mapping(target = "primaryImageId", source = "primaryImageId")
+    @Mapping(target = "createdAt", source = "row.createdAt", qualifiedByName = "formatDateTime")
+    PropertySummaryResponse toSummaryResponse(PropertySummaryRow row, Long primaryImageId);
 
     @Mapping(target = "propertyType", expression = "java(property.getPropertyType().name())")
     @Mapping(target = "transactionType", expression = "java(property.getTransactionType().name())")
@@ -54,13 +55,4 @@ public interface PropertyMapper {
         if (dateTime == null) return null;
         return dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
     }
-
-    default Long getPrimaryImageId(Property property) {
-        if (property.getImages() == null) return null;
-        return property.getImages().stream()
-                .filter(PropertyImage::isPrimary)
-                .map(PropertyImage::getId)
-                .findFirst()
-                .orElse(property.getImages().isEmpty() ? null : property.getImages().get(0).getId());
-    }
 }
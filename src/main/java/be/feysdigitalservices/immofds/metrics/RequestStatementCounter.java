@@ -0,0 +1,27 @@
+package be.feysdigitalservices.immofds.metrics;
+
+/**
+ * Counts the SQL statements created on the current thread. {@link StatementCountingDataSource}
+ * increments it for every statement, Hibernate or {@code JdbcTemplate};
+ * {@link SqlStatementMetricsFilter} resets the count when a request starts and records it when the
+ * request ends.
+ */
+public final class RequestStatementCounter {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    private RequestStatementCounter() {
+    }
+
+    public static void increment() {
+        COUNT.get()[0]++;
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static int count() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,20 @@
+package be.feysdigitalservices.immofds.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements the request thread may run while an endpoint is served,
+ * Hibernate and {@code JdbcTemplate} alike, checked by {@link SqlStatementMetricsFilter} according
+ * to {@code sql-budget.mode}. Statements run on other threads (async tasks) are not counted.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlStatementBudget {
+
+    int value();
+}
@@ -0,0 +1,81 @@
+package be.feysdigitalservices.immofds.metrics;
+
+import be.feysdigitalservices.immofds.config.SqlBudgetConfig;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements each request executed, tagged like {@code http.server.requests}
+ * with the route template rather than the raw path, and checks the count against the
+ * {@link SqlStatementBudget} of the handler.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementMetricsFilter.class);
+
+    static final String METRIC_NAME = "http.server.requests.sql.statements";
+
+    private final MeterRegistry registry;
+    private final SqlBudgetConfig.Mode budgetMode;
+
+    public SqlStatementMetricsFilter(MeterRegistry registry, SqlBudgetConfig budgetConfig) {
+        this.registry = registry;
+        this.budgetMode = budgetConfig.mode() != null ? budgetConfig.mode() : SqlBudgetConfig.Mode.OFF;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestStatementCounter.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("Requêtes SQL exécutées par requête HTTP")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri(request))
+                    .register(registry)
+                    .record(RequestStatementCounter.count());
+        }
+        checkBudget(request, RequestStatementCounter.count());
+    }
+
+    private void checkBudget(HttpServletRequest request, int count) {
+        if (budgetMode == SqlBudgetConfig.Mode.OFF
+                || !(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler)) {
+            return;
+        }
+        SqlStatementBudget budget = handler.getMethodAnnotation(SqlStatementBudget.class);
+        if (budget == null || count <= budget.value()) {
+            return;
+        }
+        String message = String.format("Budget SQL dépassé : %s %s a exécuté %d requêtes pour un budget de %d",
+                request.getMethod(), uri(request), count, budget.value());
+        if (budgetMode == SqlBudgetConfig.Mode.FAIL) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
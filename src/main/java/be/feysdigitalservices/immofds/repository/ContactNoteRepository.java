@@ -2,6 +2,8 @@ package be.feysdigitalservices.immofds.repository;
 
 import be.feysdigitalservices.immofds.domain.entity.ContactNote;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +15,8 @@ public interface ContactNoteRepository extends JpaRepository<ContactNote, Long>
     List<ContactNote> findByContactRequestIdOrderByCreatedAtAsc(Long contactRequestId);
 
     Optional<ContactNote> findTopByContactRequestIdOrderByCreatedAtDesc(Long contactRequestId);
+
+    @Modifying
+    @Query("DELETE FROM ContactNote n WHERE n.contactRequest.id = :contactRequestId")
+    void deleteByContactRequestId(Long contactRequestId);
 }
@@ -0,0 +1,22 @@
+package be.feysdigitalservices.immofds.repository;
+
+/**
+ * Image row without its legacy BYTEA column, so that serving an image never loads the bytes into
+ * the entity.
+ */
+public record PropertyImageMetadata(
+        Long id,
+        String fileName,
+        String contentType,
+        String storageKey,
+        Long sizeBytes
+) {
+
+    /**
+     * Strong validator for the image bytes: the content hash when stored in the image storage, the
+     * row id otherwise (legacy rows are never rewritten in place).
+     */
+    public String etag() {
+        return storageKey != null ? storageKey : "image-" + id;
+    }
+}
@@ -0,0 +1,6 @@
+package be.feysdigitalservices.immofds.repository;
+
+public record PropertyImageRef(
+        Long propertyId,
+        Long imageId
+) {}
@@ -1,10 +1,14 @@
 package be.feysdigitalservices.immofds.repository;
 
 import be.feysdigitalservices.immofds.domain.entity.PropertyImage;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,8 +19,36 @@ public interface PropertyImageRepository extends JpaRepository<PropertyImage, Lo
 
     Optional<PropertyImage> findByIdAndPropertyId(Long id, Long propertyId);
 
+    @Query("SELECT new be.feysdigitalservices.immofds.repository.PropertyImageMetadata("
+            + "pi.id, pi.fileName, pi.contentType, pi.storageKey, pi.sizeBytes) FROM PropertyImage pi WHERE pi.id = :id")
+    Optional<PropertyImageMetadata> findMetadataById(Long id);
+
     @Query("SELECT MAX(pi.displayOrder) FROM PropertyImage pi WHERE pi.property.id = :propertyId")
     Optional<Integer> findMaxDisplayOrderByPropertyId(Long propertyId);
 
     int countByPropertyId(Long propertyId);
+
+    /**
+     * Image ids of the given properties, primary image first then by display order: the first row
+     * of each property is the image shown on its summary card.
+     */
+    @Query("SELECT new be.feysdigitalservices.immofds.repository.PropertyImageRef(pi.property.id, pi.id) "
+            + "FROM PropertyImage pi WHERE pi.property.id IN :propertyIds "
+            + "ORDER BY pi.property.id, pi.isPrimary DESC, pi.displayOrder ASC, pi.id ASC")
+    List<PropertyImageRef> findImageRefsByPropertyIds(Collection<Long> propertyIds);
+
+    @Query("SELECT DISTINCT pi.storageKey FROM PropertyImage pi WHERE pi.storageKey IS NOT NULL")
+    List<String> findAllStorageKeys();
+
+    @Query("SELECT new be.feysdigitalservices.immofds.repository.PropertyImageMetadata("
+            + "pi.id, pi.fileName, pi.contentType, pi.storageKey, pi.sizeBytes) FROM PropertyImage pi "
+            + "WHERE pi.storageKey IS NOT NULL AND pi.contentType IN ('image/jpeg', 'image/png') "
+            + "AND pi.variantsUnsupported = false "
+            + "AND NOT EXISTS (SELECT 1 FROM PropertyImageVariant v WHERE v.image = pi) ORDER BY pi.id")
+    List<PropertyImageMetadata> findWithoutVariants(Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PropertyImage pi SET pi.variantsUnsupported = true WHERE pi.id = :id")
+    void markVariantsUnsupported(Long id);
 }
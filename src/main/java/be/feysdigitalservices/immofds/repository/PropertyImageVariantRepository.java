@@ -0,0 +1,24 @@
+package be.feysdigitalservices.immofds.repository;
+
+import be.feysdigitalservices.immofds.domain.entity.PropertyImageVariant;
+import be.feysdigitalservices.immofds.domain.enums.ImageSize;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PropertyImageVariantRepository extends JpaRepository<PropertyImageVariant, Long> {
+
+    @Query("SELECT new be.feysdigitalservices.immofds.repository.PropertyImageMetadata("
+            + "v.image.id, v.image.fileName, v.contentType, v.storageKey, v.sizeBytes) "
+            + "FROM PropertyImageVariant v WHERE v.image.id = :imageId AND v.imageSize = :imageSize")
+    Optional<PropertyImageMetadata> findMetadataByImageIdAndImageSize(Long imageId, ImageSize imageSize);
+
+    boolean existsByImageId(Long imageId);
+
+    @Query("SELECT DISTINCT v.storageKey FROM PropertyImageVariant v")
+    List<String> findAllStorageKeys();
+}
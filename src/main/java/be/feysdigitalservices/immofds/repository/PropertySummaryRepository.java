@@ -0,0 +1,20 @@
+package be.feysdigitalservices.immofds.repository;
+
+import be.feysdigitalservices.immofds.domain.entity.Property;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Specification queries selecting {@link PropertySummaryRow}s instead of entities.
+ */
+public interface PropertySummaryRepository {
+
+    Page<PropertySummaryRow> findSummaries(Specification<Property> spec, Pageable pageable);
+
+    List<PropertySummaryRow> findSummaries(Specification<Property> spec, Sort sort, Limit limit);
+}
@@ -0,0 +1,76 @@
+package be.feysdigitalservices.immofds.repository;
+
+import be.feysdigitalservices.immofds.domain.entity.Property;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+class PropertySummaryRepositoryImpl implements PropertySummaryRepository {
+
+    private final EntityManager entityManager;
+
+    PropertySummaryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<PropertySummaryRow> findSummaries(Specification<Property> spec, Pageable pageable) {
+        TypedQuery<PropertySummaryRow> query = createQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<PropertySummaryRow> findSummaries(Specification<Property> spec, Sort sort, Limit limit) {
+        TypedQuery<PropertySummaryRow> query = createQuery(spec, sort);
+        if (limit.isLimited()) {
+            query.setMaxResults(limit.max());
+        }
+        return query.getResultList();
+    }
+
+    private TypedQuery<PropertySummaryRow> createQuery(Specification<Property> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PropertySummaryRow> query = cb.createQuery(PropertySummaryRow.class);
+        Root<Property> root = query.from(Property.class);
+        query.select(cb.construct(PropertySummaryRow.class,
+                root.get("id"), root.get("reference"), root.get("title"),
+                root.get("propertyType"), root.get("transactionType"), root.get("status"),
+                root.get("price"), root.get("surface"), root.get("bedrooms"), root.get("bathrooms"),
+                root.get("city"), root.get("province"), root.get("energyRating"),
+                root.get("latitude"), root.get("longitude"), root.get("createdAt"), root.get("updatedAt")));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Property> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Property> root = query.from(Property.class);
+        query.select(cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,34 @@
+package be.feysdigitalservices.immofds.repository;
+
+import be.feysdigitalservices.immofds.domain.enums.EnergyRating;
+import be.feysdigitalservices.immofds.domain.enums.PropertyStatus;
+import be.feysdigitalservices.immofds.domain.enums.PropertyType;
+import be.feysdigitalservices.immofds.domain.enums.Province;
+import be.feysdigitalservices.immofds.domain.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Columns of a property shown on a listing card, plus the keys a cursor can point at. Selected
+ * without the description and never attached to the persistence context.
+ */
+public record PropertySummaryRow(
+        Long id,
+        String reference,
+        String title,
+        PropertyType propertyType,
+        TransactionType transactionType,
+        PropertyStatus status,
+        BigDecimal price,
+        Double surface,
+        Integer bedrooms,
+        Integer bathrooms,
+        String city,
+        Province province,
+        EnergyRating energyRating,
+        Double latitude,
+        Double longitude,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {}
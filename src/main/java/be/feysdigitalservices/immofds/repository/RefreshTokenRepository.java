@@ -3,18 +3,36 @@ package be.feysdigitalservices.immofds.repository;
 import be.feysdigitalservices.immofds.domain.entity.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 
     @Modifying
-    void deleteByUserId(Long userId);
+    @Query("DELETE FROM RefreshToken r WHERE r.tokenHash = :tokenHash")
+    void deleteByTokenHash(String tokenHash);
 
+    /**
+     * Replaces an unexpired token by the next one. Returns 0 when another refresh rotated it first:
+     * the row lock makes the second update re-read the row and no longer match.
+     */
     @Modifying
-    void deleteByToken(String token);
+    @Query("""
+            UPDATE RefreshToken r SET r.tokenHash = :newHash, r.expiryDate = :expiryDate
+            WHERE r.tokenHash = :currentHash AND r.expiryDate > :now""")
+    int rotate(String currentHash, String newHash, Instant expiryDate, Instant now);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM refresh_tokens WHERE id IN (
+                SELECT id FROM refresh_tokens WHERE expiry_date < :now LIMIT :limit)""", nativeQuery = true)
+    int deleteExpiredBatch(Instant now, int limit);
 }
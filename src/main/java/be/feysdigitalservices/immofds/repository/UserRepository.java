@@ -2,8 +2,10 @@ package be.feysdigitalservices.immofds.repository;
 
 import be.feysdigitalservices.immofds.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +14,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    @Query("SELECT new be.feysdigitalservices.immofds.repository.UserTokenVersion(u.id, u.tokenVersion) FROM User u")
+    List<UserTokenVersion> findTokenVersions();
 }
@@ -0,0 +1,6 @@
+package be.feysdigitalservices.immofds.repository;
+
+public record UserTokenVersion(
+        Long userId,
+        int tokenVersion
+) {}
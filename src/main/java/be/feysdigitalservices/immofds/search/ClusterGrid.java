@@ -0,0 +1,66 @@
+package be.feysdigitalservices.immofds.search;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Aggregates the slots shown on a map into cells sized for one zoom level: a few cells per 256 px web
+ * map tile, the latitude side shrunk by the Mercator stretch so that cells look square on screen. Cells
+ * with fewer than {@link #MIN_CLUSTER_SIZE} slots are meant to be drawn as individual markers.
+ */
+final class ClusterGrid {
+
+    static final int MIN_CLUSTER_SIZE = 3;
+
+    private static final int CELLS_PER_TILE = 4;
+
+    static final class Cell {
+
+        int count;
+        double latitudeSum;
+        double longitudeSum;
+        double minPrice = Double.POSITIVE_INFINITY;
+        double maxPrice = Double.NEGATIVE_INFINITY;
+        final int[] firstSlots = new int[MIN_CLUSTER_SIZE - 1];
+
+        boolean isCluster() {
+            return count >= MIN_CLUSTER_SIZE;
+        }
+
+        double latitude() {
+            return latitudeSum / count;
+        }
+
+        double longitude() {
+            return longitudeSum / count;
+        }
+    }
+
+    private final double cellLatitude;
+    private final double cellLongitude;
+    private final Map<Long, Cell> cells = new LinkedHashMap<>();
+
+    ClusterGrid(int zoom, double latitude) {
+        this.cellLongitude = 360.0 / (1L << zoom) / CELLS_PER_TILE;
+        this.cellLatitude = cellLongitude * Math.cos(Math.toRadians(latitude));
+    }
+
+    void add(int slot, double latitude, double longitude, double price) {
+        long row = (long) Math.floor(latitude / cellLatitude);
+        long column = (long) Math.floor(longitude / cellLongitude);
+        Cell cell = cells.computeIfAbsent((row << 32) | (column & 0xFFFFFFFFL), key -> new Cell());
+        if (cell.count < cell.firstSlots.length) {
+            cell.firstSlots[cell.count] = slot;
+        }
+        cell.count++;
+        cell.latitudeSum += latitude;
+        cell.longitudeSum += longitude;
+        cell.minPrice = Math.min(cell.minPrice, price);
+        cell.maxPrice = Math.max(cell.maxPrice, price);
+    }
+
+    Collection<Cell> cells() {
+        return cells.values();
+    }
+}
@@ -0,0 +1,83 @@
+package be.feysdigitalservices.immofds.search;
+
+import be.feysdigitalservices.immofds.dto.request.BoundingBox;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fixed grid over latitude and longitude, one bitmap of slots per occupied cell. A viewport or radius query
+ * only visits the cells it overlaps, clipped to the occupied extent so that a world-wide viewport costs no
+ * more than the whole catalogue; the candidates are then checked against their exact coordinates.
+ */
+final class GeoGrid {
+
+    /** About 5.5 km north-south and 3.6 km east-west at Belgian latitudes. */
+    static final double CELL_DEGREES = 0.05;
+
+    private final Map<Long, BitSet> cells = new HashMap<>();
+    private final Map<Integer, Long> cellBySlot = new HashMap<>();
+    private int minRow = Integer.MAX_VALUE;
+    private int maxRow = Integer.MIN_VALUE;
+    private int minColumn = Integer.MAX_VALUE;
+    private int maxColumn = Integer.MIN_VALUE;
+
+    void add(int slot, double latitude, double longitude) {
+        int row = row(latitude);
+        int column = column(longitude);
+        long cell = key(row, column);
+        cells.computeIfAbsent(cell, c -> new BitSet()).set(slot);
+        cellBySlot.put(slot, cell);
+        minRow = Math.min(minRow, row);
+        maxRow = Math.max(maxRow, row);
+        minColumn = Math.min(minColumn, column);
+        maxColumn = Math.max(maxColumn, column);
+    }
+
+    void remove(int slot) {
+        Long cell = cellBySlot.remove(slot);
+        if (cell == null) {
+            return;
+        }
+        BitSet slots = cells.get(cell);
+        slots.clear(slot);
+        if (slots.isEmpty()) {
+            cells.remove(cell);
+        }
+        if (cellBySlot.isEmpty()) {
+            minRow = minColumn = Integer.MAX_VALUE;
+            maxRow = maxColumn = Integer.MIN_VALUE;
+        }
+    }
+
+    /** Slots in the cells overlapping the box: a superset of the slots inside it. */
+    BitSet candidates(BoundingBox box) {
+        BitSet result = new BitSet();
+        int fromRow = Math.max(row(box.south()), minRow);
+        int toRow = Math.min(row(box.north()), maxRow);
+        int fromColumn = Math.max(column(box.west()), minColumn);
+        int toColumn = Math.min(column(box.east()), maxColumn);
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int column = fromColumn; column <= toColumn; column++) {
+                BitSet slots = cells.get(key(row, column));
+                if (slots != null) {
+                    result.or(slots);
+                }
+            }
+        }
+        return result;
+    }
+
+    static int row(double latitude) {
+        return (int) Math.floor(latitude / CELL_DEGREES);
+    }
+
+    static int column(double longitude) {
+        return (int) Math.floor(longitude / CELL_DEGREES);
+    }
+
+    private static long key(int row, int column) {
+        return ((long) row << 32) | (column & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,152 @@
+package be.feysdigitalservices.immofds.search;
+
+import be.feysdigitalservices.immofds.domain.enums.Province;
+import be.feysdigitalservices.immofds.dto.response.LocationSuggestionResponse;
+import be.feysdigitalservices.immofds.validation.BelgianPostalCodeValidator;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Distinct (postal code, city) pairs of the indexed properties with their listing count, for the autocomplete
+ * of the search form. Digits are matched as a postal code prefix. Cities are matched accent-insensitively by
+ * prefix, then by substring, then by trigram similarity (same measure and default threshold as pg_trgm) to
+ * absorb typos.
+ */
+final class LocationIndex {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final double MIN_SIMILARITY = 0.3;
+
+    private static final int PREFIX = 0;
+    private static final int SUBSTRING = 1;
+    private static final int SIMILAR = 2;
+
+    private static final class Location {
+
+        final String postalCode;
+        final String city;
+        final Province province;
+        final String name;
+        final Set<String> trigrams;
+        int count;
+
+        Location(String postalCode, String city, Province province, String name) {
+            this.postalCode = postalCode;
+            this.city = city;
+            this.province = province;
+            this.name = name;
+            this.trigrams = trigrams(" " + name + " ");
+        }
+
+        String byPostalCodeKey() {
+            return postalCode + " " + name;
+        }
+
+        String byNameKey() {
+            return name + " " + postalCode;
+        }
+    }
+
+    private final Map<Integer, Location> locationsBySlot = new HashMap<>();
+    private final NavigableMap<String, Location> byPostalCode = new TreeMap<>();
+    private final NavigableMap<String, Location> byName = new TreeMap<>();
+    private final Map<String, Set<Location>> byTrigram = new HashMap<>();
+
+    void add(int slot, String postalCode, String city, Province province) {
+        String name = normalize(city);
+        Location location = byPostalCode.get(postalCode + " " + name);
+        if (location == null) {
+            location = new Location(postalCode, city.strip(), province, name);
+            byPostalCode.put(location.byPostalCodeKey(), location);
+            byName.put(location.byNameKey(), location);
+            for (String trigram : location.trigrams) {
+                byTrigram.computeIfAbsent(trigram, t -> new HashSet<>()).add(location);
+            }
+        }
+        location.count++;
+        locationsBySlot.put(slot, location);
+    }
+
+    void remove(int slot) {
+        Location location = locationsBySlot.remove(slot);
+        if (location == null || --location.count > 0) {
+            return;
+        }
+        byPostalCode.remove(location.byPostalCodeKey());
+        byName.remove(location.byNameKey());
+        for (String trigram : location.trigrams) {
+            Set<Location> locations = byTrigram.get(trigram);
+            locations.remove(location);
+            if (locations.isEmpty()) {
+                byTrigram.remove(trigram);
+            }
+        }
+    }
+
+    List<LocationSuggestionResponse> suggest(String query, Province province, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        Map<Location, Integer> ranks = new HashMap<>();
+        if (normalized.chars().allMatch(Character::isDigit)) {
+            if (!BelgianPostalCodeValidator.isBelgianPostalCodePrefix(normalized)) {
+                return List.of();
+            }
+            startingWith(byPostalCode, normalized).forEach(location -> ranks.put(location, PREFIX));
+        } else {
+            startingWith(byName, normalized).forEach(location -> ranks.put(location, PREFIX));
+            if (normalized.length() >= 3) {
+                rankByTrigrams(normalized, ranks);
+            }
+        }
+        return ranks.entrySet().stream()
+                .filter(entry -> province == null || entry.getKey().province == province)
+                .sorted(Map.Entry.<Location, Integer>comparingByValue()
+                        .thenComparing(entry -> -entry.getKey().count)
+                        .thenComparing(entry -> entry.getKey().byNameKey()))
+                .limit(limit)
+                .map(entry -> toResponse(entry.getKey()))
+                .toList();
+    }
+
+    private void rankByTrigrams(String normalized, Map<Location, Integer> ranks) {
+        // no trailing padding: the last word of the query is usually still being typed
+        Set<String> queryTrigrams = trigrams(" " + normalized);
+        Map<Location, Integer> shared = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            for (Location location : byTrigram.getOrDefault(trigram, Set.of())) {
+                shared.merge(location, 1, Integer::sum);
+            }
+        }
+        shared.forEach((location, count) -> {
+            if (location.name.contains(normalized)) {
+                ranks.putIfAbsent(location, SUBSTRING);
+            } else if ((double) count / (queryTrigrams.size() + location.trigrams.size() - count) >= MIN_SIMILARITY) {
+                ranks.putIfAbsent(location, SIMILAR);
+            }
+        });
+    }
+
+    private static Collection<Location> startingWith(NavigableMap<String, Location> map, String prefix) {
+        return map.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+    }
+
+    private static LocationSuggestionResponse toResponse(Location location) {
+        return new LocationSuggestionResponse(location.postalCode, location.city,
+                location.province.name(), location.province.getLabel(), location.count);
+    }
+
+    static String normalize(String text) {
+        return SEPARATORS.matcher(TextAnalyzer.fold(text)).replaceAll(" ").strip();
+    }
+
+    private static Set<String> trigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,702 @@
+package be.feysdigitalservices.immofds.search;
+
+import be.feysdigitalservices.immofds.domain.entity.Property;
+import be.feysdigitalservices.immofds.domain.enums.*;
+import be.feysdigitalservices.immofds.dto.request.BoundingBox;
+import be.feysdigitalservices.immofds.dto.request.GeoPoint;
+import be.feysdigitalservices.immofds.dto.request.PropertySearchCriteria;
+import be.feysdigitalservices.immofds.dto.response.FacetCountResponse;
+import be.feysdigitalservices.immofds.dto.response.LocationSuggestionResponse;
+import be.feysdigitalservices.immofds.dto.response.PropertyClusterResponse;
+import be.feysdigitalservices.immofds.dto.response.PropertyMapPointResponse;
+import be.feysdigitalservices.immofds.dto.response.PropertyMapResponse;
+import be.feysdigitalservices.immofds.dto.response.PropertyFacetsResponse;
+import be.feysdigitalservices.immofds.dto.response.RangeFacetCountResponse;
+import be.feysdigitalservices.immofds.event.PropertyChangedEvent;
+import be.feysdigitalservices.immofds.repository.PropertyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * In-memory index of the PUBLISHED properties used to answer public searches without hitting the database:
+ * one bitmap per enum value and amenity, sorted columns for ranges and ordering, and an inverted index of
+ * the title, description, city and postal code for free-text queries. Only the ids of the requested page
+ * are then loaded through JPA. The postal codes and cities also feed the location autocomplete, and the
+ * coordinates a grid for viewport and radius filters, for ordering by distance and for map clusters.
+ */
+@Component
+public class PropertySearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertySearchIndex.class);
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private static final int MAX_LOCATION_SUGGESTIONS = 20;
+
+    public static final String DISTANCE_SORT = "distance";
+    public static final int MAX_MAP_ZOOM = 22;
+
+    private static final long[] SALE_PRICE_EDGES = {0, 100_000, 200_000, 300_000, 400_000, 500_000, 750_000, 1_000_000};
+    private static final long[] RENT_PRICE_EDGES = {0, 500, 750, 1_000, 1_250, 1_500, 2_000};
+    private static final long[] SURFACE_EDGES = {0, 50, 75, 100, 150, 200, 300};
+
+    private static final List<String> COLUMNS = List.of("createdAt", "updatedAt", "price", "surface", "bedrooms");
+
+    private enum Filter {
+        PROPERTY_TYPE, TRANSACTION_TYPE, PROVINCE, ENERGY_RATING,
+        GARDEN, GARAGE, TERRACE, BASEMENT, ELEVATOR, FURNISHED,
+        PRICE, SURFACE, BEDROOMS, CITY, TEXT, BOUNDS, RADIUS
+    }
+
+    private final PropertyRepository propertyRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int slotCount;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private String[] references = new String[INITIAL_CAPACITY];
+    private String[] cities = new String[INITIAL_CAPACITY];
+    private double[] createdAt = new double[INITIAL_CAPACITY];
+    private double[] updatedAt = new double[INITIAL_CAPACITY];
+    private double[] prices = new double[INITIAL_CAPACITY];
+    private double[] surfaces = new double[INITIAL_CAPACITY];
+    private double[] bedrooms = new double[INITIAL_CAPACITY];
+    private double[] latitudes = new double[INITIAL_CAPACITY];
+    private double[] longitudes = new double[INITIAL_CAPACITY];
+
+    private final BitSet live = new BitSet();
+    private final BitSet[] byPropertyType = bitsets(PropertyType.values().length);
+    private final BitSet[] byTransactionType = bitsets(TransactionType.values().length);
+    private final BitSet[] byProvince = bitsets(Province.values().length);
+    private final BitSet[] byEnergyRating = bitsets(EnergyRating.values().length);
+    private final BitSet withGarden = new BitSet();
+    private final BitSet withGarage = new BitSet();
+    private final BitSet withTerrace = new BitSet();
+    private final BitSet withBasement = new BitSet();
+    private final BitSet withElevator = new BitSet();
+    private final BitSet furnished = new BitSet();
+
+    private final TextIndex text = new TextIndex();
+    private final LocationIndex locations = new LocationIndex();
+    private final GeoGrid grid = new GeoGrid();
+
+    private final Map<String, RangeColumn> columns = new HashMap<>();
+    private List<Property> changesDuringReload;
+    private volatile boolean ready;
+
+    public PropertySearchIndex(PropertyRepository propertyRepository) {
+        this.propertyRepository = propertyRepository;
+        rebuildColumns();
+    }
+
+    public record Result(List<Long> ids, long totalElements) {}
+
+    /**
+     * Ids of the requested page, or empty when the database has to answer. Ordering by distance from
+     * {@code near} and free-text queries are only possible here, so those searches load the index if needed.
+     */
+    public Optional<Result> search(PropertySearchCriteria criteria, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return Optional.empty();
+        }
+        List<Sort.Order> orders = pageable.getSort().toList();
+        if (orders.size() != 1) {
+            return Optional.empty();
+        }
+        Sort.Order order = orders.get(0);
+        boolean byDistance = DISTANCE_SORT.equals(order.getProperty()) && criteria.near() != null;
+        if (byDistance || isTextQuery(criteria.q())) {
+            loadIfNeeded();
+        } else if (!ready) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            RangeColumn sortColumn = columns.get(order.getProperty());
+            if (sortColumn == null && !byDistance) {
+                return Optional.empty();
+            }
+            BitSet matches = match(filters(criteria), null);
+            int[] slots = byDistance
+                    ? pageByDistance(matches, criteria.near(), order.isAscending(), pageable.getOffset(),
+                            pageable.getPageSize())
+                    : sortColumn.page(matches, order.isAscending(), pageable.getOffset(), pageable.getPageSize());
+            List<Long> pageIds = new ArrayList<>(slots.length);
+            for (int slot : slots) {
+                pageIds.add(ids[slot]);
+            }
+            return Optional.of(new Result(pageIds, matches.cardinality()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Keyset page of a scroll with a free-text query: up to {@code limit} ids after the given sort key
+     * ({@link LocalDateTime} or {@link BigDecimal}) and id, or from the start without a key. Empty when
+     * the sort column is not indexed.
+     */
+    public Optional<List<Long>> scroll(PropertySearchCriteria criteria, Sort.Order order, Comparable<?> afterKey,
+                                       Long afterId, int limit) {
+        loadIfNeeded();
+        lock.readLock().lock();
+        try {
+            RangeColumn sortColumn = columns.get(order.getProperty());
+            if (sortColumn == null) {
+                return Optional.empty();
+            }
+            BitSet matches = match(filters(criteria), null);
+            int[] slots = afterKey == null
+                    ? sortColumn.page(matches, order.isAscending(), 0, limit)
+                    : sortColumn.pageAfter(matches, order.isAscending(), toColumnValue(afterKey), afterId, limit);
+            List<Long> pageIds = new ArrayList<>(slots.length);
+            for (int slot : slots) {
+                pageIds.add(ids[slot]);
+            }
+            return Optional.of(pageIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Whether the query has a searchable term, i.e. whether only this index can answer it. */
+    public static boolean isTextQuery(String query) {
+        return query != null && !TextAnalyzer.terms(query).isEmpty();
+    }
+
+    public OptionalLong count(PropertySearchCriteria criteria) {
+        if (!ready) {
+            return OptionalLong.empty();
+        }
+        lock.readLock().lock();
+        try {
+            return OptionalLong.of(match(filters(criteria), null).cardinality());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts per option of every facet. Each facet ignores its own filter so that the other options of an
+     * already selected facet keep a meaningful count.
+     */
+    public PropertyFacetsResponse facets(PropertySearchCriteria criteria) {
+        loadIfNeeded();
+        lock.readLock().lock();
+        try {
+            EnumMap<Filter, BitSet> filters = filters(criteria);
+            long[] priceEdges = criteria.transactionType() == TransactionType.RENT ? RENT_PRICE_EDGES : SALE_PRICE_EDGES;
+            return new PropertyFacetsResponse(
+                    match(filters, null).cardinality(),
+                    countEnum(PropertyType.values(), PropertyType::getLabel, byPropertyType,
+                            match(filters, Filter.PROPERTY_TYPE)),
+                    countEnum(TransactionType.values(), TransactionType::getLabel, byTransactionType,
+                            match(filters, Filter.TRANSACTION_TYPE)),
+                    countEnum(Province.values(), Province::getLabel, byProvince,
+                            match(filters, Filter.PROVINCE)),
+                    countEnum(EnergyRating.values(), EnergyRating::getLabel, byEnergyRating,
+                            match(filters, Filter.ENERGY_RATING)),
+                    List.of(
+                            countFlag(filters, Filter.GARDEN, "garden", "Jardin", withGarden),
+                            countFlag(filters, Filter.GARAGE, "garage", "Garage", withGarage),
+                            countFlag(filters, Filter.TERRACE, "terrace", "Terrasse", withTerrace),
+                            countFlag(filters, Filter.BASEMENT, "basement", "Cave", withBasement),
+                            countFlag(filters, Filter.ELEVATOR, "elevator", "Ascenseur", withElevator),
+                            countFlag(filters, Filter.FURNISHED, "furnished", "Meublé", furnished)),
+                    countRanges(columns.get("price"), priceEdges, 100, match(filters, Filter.PRICE)),
+                    countRanges(columns.get("surface"), SURFACE_EDGES, 1, match(filters, Filter.SURFACE)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Postal codes and cities of the published properties matching what was typed in the location box,
+     * with their listing count, optionally restricted to one province.
+     */
+    public List<LocationSuggestionResponse> suggestLocations(String query, Province province, int limit) {
+        loadIfNeeded();
+        lock.readLock().lock();
+        try {
+            return locations.suggest(query, province, Math.clamp(limit, 1, MAX_LOCATION_SUGGESTIONS));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Markers for a map showing the viewport of the criteria at the given zoom: clusters with their centroid
+     * and price range, and the properties of sparse cells individually.
+     */
+    public PropertyMapResponse map(PropertySearchCriteria criteria, int zoom) {
+        loadIfNeeded();
+        BoundingBox viewport = criteria.bounds();
+        ClusterGrid clusters = new ClusterGrid(zoom, viewport != null ? (viewport.south() + viewport.north()) / 2 : 0);
+        lock.readLock().lock();
+        try {
+            BitSet matches = match(filters(criteria), null);
+            long located = 0;
+            for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                if (!Double.isNaN(latitudes[slot])) {
+                    clusters.add(slot, latitudes[slot], longitudes[slot], prices[slot]);
+                    located++;
+                }
+            }
+            List<PropertyClusterResponse> clusterResponses = new ArrayList<>();
+            List<PropertyMapPointResponse> points = new ArrayList<>();
+            for (ClusterGrid.Cell cell : clusters.cells()) {
+                if (cell.isCluster()) {
+                    clusterResponses.add(new PropertyClusterResponse(cell.latitude(), cell.longitude(), cell.count,
+                            fromCents(cell.minPrice), fromCents(cell.maxPrice)));
+                    continue;
+                }
+                for (int i = 0; i < cell.count; i++) {
+                    int slot = cell.firstSlots[i];
+                    points.add(new PropertyMapPointResponse(references[slot], latitudes[slot], longitudes[slot],
+                            fromCents(prices[slot])));
+                }
+            }
+            return new PropertyMapResponse(located, clusterResponses, points);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (changesDuringReload != null) {
+                changesDuringReload.add(event.property());
+            }
+            apply(event.property());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the index with the published properties read from the database. Changes committed while
+     * they are read may be missing from that snapshot, so they are recorded and applied again on top of it.
+     */
+    @Scheduled(fixedDelayString = "${search-index.refresh-interval:PT5M}")
+    public synchronized void reload() {
+        List<Property> published;
+        lock.writeLock().lock();
+        try {
+            changesDuringReload = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            published = propertyRepository.findByStatus(PropertyStatus.PUBLISHED);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringReload = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        lock.writeLock().lock();
+        try {
+            clear();
+            published.forEach(this::insert);
+            rebuildColumns();
+            changesDuringReload.forEach(this::apply);
+            changesDuringReload = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Index de recherche rechargé : {} biens publiés", published.size());
+    }
+
+    private synchronized void loadIfNeeded() {
+        if (!ready) {
+            reload();
+        }
+    }
+
+    private EnumMap<Filter, BitSet> filters(PropertySearchCriteria criteria) {
+        EnumMap<Filter, BitSet> filters = new EnumMap<>(Filter.class);
+        putEnum(filters, Filter.PROPERTY_TYPE, byPropertyType, criteria.propertyType());
+        putEnum(filters, Filter.TRANSACTION_TYPE, byTransactionType, criteria.transactionType());
+        putEnum(filters, Filter.PROVINCE, byProvince, criteria.province());
+        putEnum(filters, Filter.ENERGY_RATING, byEnergyRating, criteria.energyRating());
+        putFlag(filters, Filter.GARDEN, withGarden, criteria.garden());
+        putFlag(filters, Filter.GARAGE, withGarage, criteria.garage());
+        putFlag(filters, Filter.TERRACE, withTerrace, criteria.terrace());
+        putFlag(filters, Filter.BASEMENT, withBasement, criteria.basement());
+        putFlag(filters, Filter.ELEVATOR, withElevator, criteria.elevator());
+        putFlag(filters, Filter.FURNISHED, furnished, criteria.furnished());
+
+        if (criteria.minPrice() != null || criteria.maxPrice() != null) {
+            filters.put(Filter.PRICE, columns.get("price").range(
+                    toCents(criteria.minPrice(), RoundingMode.CEILING, Double.NEGATIVE_INFINITY),
+                    toCents(criteria.maxPrice(), RoundingMode.FLOOR, Double.POSITIVE_INFINITY)));
+        }
+        if (criteria.minSurface() != null || criteria.maxSurface() != null) {
+            filters.put(Filter.SURFACE, columns.get("surface").range(
+                    criteria.minSurface() != null ? criteria.minSurface() : Double.NEGATIVE_INFINITY,
+                    criteria.maxSurface() != null ? criteria.maxSurface() : Double.POSITIVE_INFINITY));
+        }
+        if (criteria.minBedrooms() != null) {
+            filters.put(Filter.BEDROOMS, columns.get("bedrooms").range(criteria.minBedrooms(), Double.POSITIVE_INFINITY));
+        }
+        if (criteria.city() != null && !criteria.city().isBlank()) {
+            String city = TextAnalyzer.fold(criteria.city());
+            BitSet matchingCities = new BitSet();
+            for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+                if (cities[slot].contains(city)) {
+                    matchingCities.set(slot);
+                }
+            }
+            filters.put(Filter.CITY, matchingCities);
+        }
+        if (criteria.bounds() != null) {
+            filters.put(Filter.BOUNDS, within(criteria.bounds()));
+        }
+        if (criteria.near() != null && criteria.radiusKm() != null) {
+            filters.put(Filter.RADIUS, withinRadius(criteria.near(), criteria.radiusKm()));
+        }
+        if (criteria.q() != null) {
+            Set<String> terms = TextAnalyzer.terms(criteria.q());
+            if (!terms.isEmpty()) {
+                filters.put(Filter.TEXT, text.matchAll(terms));
+            }
+        }
+        return filters;
+    }
+
+    private BitSet within(BoundingBox bounds) {
+        BitSet matches = grid.candidates(bounds);
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            if (!bounds.contains(latitudes[slot], longitudes[slot])) {
+                matches.clear(slot);
+            }
+        }
+        return matches;
+    }
+
+    private BitSet withinRadius(GeoPoint center, double radiusKm) {
+        BitSet matches = grid.candidates(center.boundsWithin(radiusKm));
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            if (center.distanceKm(latitudes[slot], longitudes[slot]) > radiusKm) {
+                matches.clear(slot);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Same tie-break on id as {@link RangeColumn}; properties without coordinates sort as the farthest.
+     * Only the first {@code offset + pageSize} slots are kept, in a bounded max-heap, so a page costs
+     * O(n log k) without boxing or sorting every match.
+     */
+    private int[] pageByDistance(BitSet matches, GeoPoint center, boolean ascending, long offset, int pageSize) {
+        int matchCount = matches.cardinality();
+        if (offset >= matchCount) {
+            return new int[0];
+        }
+        int limit = (int) Math.min(offset + pageSize, matchCount);
+        double[] distances = new double[slotCount];
+        IntBinaryOperator byDistance = (a, b) -> {
+            int compared = Double.compare(distances[a], distances[b]);
+            if (compared == 0) {
+                compared = Long.compare(ids[a], ids[b]);
+            }
+            return ascending ? compared : -compared;
+        };
+
+        // La racine du tas est le moins bon des slots retenus
+        int[] heap = new int[limit];
+        int size = 0;
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            distances[slot] = Double.isNaN(latitudes[slot])
+                    ? Double.NaN
+                    : center.distanceKm(latitudes[slot], longitudes[slot]);
+            if (size < limit) {
+                heap[size] = slot;
+                siftUp(heap, size++, byDistance);
+            } else if (byDistance.applyAsInt(slot, heap[0]) < 0) {
+                heap[0] = slot;
+                siftDown(heap, size, byDistance);
+            }
+        }
+        for (int end = size - 1; end > 0; end--) {
+            int worst = heap[0];
+            heap[0] = heap[end];
+            heap[end] = worst;
+            siftDown(heap, end, byDistance);
+        }
+        return Arrays.copyOfRange(heap, (int) offset, size);
+    }
+
+    private static void siftUp(int[] heap, int index, IntBinaryOperator comparator) {
+        int slot = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (comparator.applyAsInt(heap[parent], slot) >= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = slot;
+    }
+
+    private static void siftDown(int[] heap, int size, IntBinaryOperator comparator) {
+        int slot = heap[0];
+        int index = 0;
+        int child;
+        while ((child = 2 * index + 1) < size) {
+            if (child + 1 < size && comparator.applyAsInt(heap[child + 1], heap[child]) > 0) {
+                child++;
+            }
+            if (comparator.applyAsInt(slot, heap[child]) >= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = slot;
+    }
+
+    private BitSet match(EnumMap<Filter, BitSet> filters, Filter ignored) {
+        BitSet matches = (BitSet) live.clone();
+        filters.forEach((filter, bitSet) -> {
+            if (filter != ignored) {
+                matches.and(bitSet);
+            }
+        });
+        return matches;
+    }
+
+    private FacetCountResponse countFlag(EnumMap<Filter, BitSet> filters, Filter filter, String value, String label,
+                                         BitSet flag) {
+        return new FacetCountResponse(value, label, intersectionCount(match(filters, filter), flag));
+    }
+
+    private static <E extends Enum<E>> List<FacetCountResponse> countEnum(E[] values, Function<E, String> label,
+                                                                          BitSet[] bitsets, BitSet matches) {
+        List<FacetCountResponse> counts = new ArrayList<>(values.length);
+        for (E value : values) {
+            counts.add(new FacetCountResponse(value.name(), label.apply(value),
+                    intersectionCount(matches, bitsets[value.ordinal()])));
+        }
+        return counts;
+    }
+
+    private static List<RangeFacetCountResponse> countRanges(RangeColumn column, long[] edges, double scale,
+                                                             BitSet matches) {
+        List<RangeFacetCountResponse> counts = new ArrayList<>(edges.length);
+        for (int i = 0; i < edges.length; i++) {
+            boolean last = i == edges.length - 1;
+            double max = last ? Double.POSITIVE_INFINITY : Math.nextDown(edges[i + 1] * scale);
+            counts.add(new RangeFacetCountResponse(
+                    BigDecimal.valueOf(edges[i]),
+                    last ? null : BigDecimal.valueOf(edges[i + 1]),
+                    intersectionCount(matches, column.range(edges[i] * scale, max))));
+        }
+        return counts;
+    }
+
+    private static long intersectionCount(BitSet matches, BitSet other) {
+        BitSet intersection = (BitSet) matches.clone();
+        intersection.and(other);
+        return intersection.cardinality();
+    }
+
+    /**
+     * Brings one property up to date, moving its slot in the sorted columns instead of sorting them again.
+     * Changes to properties that are neither indexed nor published (drafts, their images) cost nothing.
+     */
+    private void apply(Property property) {
+        Integer previous = slotsById.get(property.getId());
+        boolean published = property.getStatus() == PropertyStatus.PUBLISHED;
+        if (previous == null && !published) {
+            return;
+        }
+        if (previous != null) {
+            for (String name : COLUMNS) {
+                columns.get(name).remove(previous, columnValues(name)[previous], ids[previous]);
+            }
+            remove(property.getId());
+        }
+        if (published) {
+            int slot = insert(property);
+            for (String name : COLUMNS) {
+                columns.get(name).insert(slot, columnValues(name)[slot], ids[slot]);
+            }
+        }
+    }
+
+    private int insert(Property property) {
+        int slot = freeSlots.isEmpty() ? slotCount++ : freeSlots.pop();
+        ensureCapacity(slotCount);
+        slotsById.put(property.getId(), slot);
+
+        ids[slot] = property.getId();
+        references[slot] = property.getReference();
+        cities[slot] = TextAnalyzer.fold(property.getCity());
+        createdAt[slot] = toEpochMillis(property.getCreatedAt());
+        updatedAt[slot] = toEpochMillis(property.getUpdatedAt());
+        prices[slot] = toCents(property.getPrice(), RoundingMode.HALF_UP, Double.NaN);
+        surfaces[slot] = property.getSurface() != null ? property.getSurface() : Double.NaN;
+        bedrooms[slot] = property.getBedrooms() != null ? property.getBedrooms() : Double.NaN;
+        boolean located = property.getLatitude() != null && property.getLongitude() != null;
+        latitudes[slot] = located ? property.getLatitude() : Double.NaN;
+        longitudes[slot] = located ? property.getLongitude() : Double.NaN;
+        if (located) {
+            grid.add(slot, latitudes[slot], longitudes[slot]);
+        }
+
+        live.set(slot);
+        byPropertyType[property.getPropertyType().ordinal()].set(slot);
+        byTransactionType[property.getTransactionType().ordinal()].set(slot);
+        byProvince[property.getProvince().ordinal()].set(slot);
+        if (property.getEnergyRating() != null) {
+            byEnergyRating[property.getEnergyRating().ordinal()].set(slot);
+        }
+        withGarden.set(slot, property.isGarden());
+        withGarage.set(slot, property.isGarage());
+        withTerrace.set(slot, property.isTerrace());
+        withBasement.set(slot, property.isBasement());
+        withElevator.set(slot, property.isElevator());
+        furnished.set(slot, property.isFurnished());
+        text.add(slot, TextAnalyzer.terms(property.getTitle(), property.getDescription(),
+                property.getCity(), property.getPostalCode()));
+        locations.add(slot, property.getPostalCode(), property.getCity(), property.getProvince());
+        return slot;
+    }
+
+    private void remove(Long propertyId) {
+        Integer slot = slotsById.remove(propertyId);
+        if (slot == null) {
+            return;
+        }
+        live.clear(slot);
+        for (BitSet[] group : List.of(byPropertyType, byTransactionType, byProvince, byEnergyRating)) {
+            for (BitSet bitSet : group) {
+                bitSet.clear(slot);
+            }
+        }
+        for (BitSet bitSet : List.of(withGarden, withGarage, withTerrace, withBasement, withElevator, furnished)) {
+            bitSet.clear(slot);
+        }
+        text.remove(slot);
+        references[slot] = null;
+        locations.remove(slot);
+        grid.remove(slot);
+        cities[slot] = null;
+        freeSlots.push(slot);
+    }
+
+    private void clear() {
+        slotsById.keySet().stream().toList().forEach(this::remove);
+        freeSlots.clear();
+        slotCount = 0;
+    }
+
+    private void rebuildColumns() {
+        for (String name : COLUMNS) {
+            columns.put(name, RangeColumn.build(columnValues(name), ids, live));
+        }
+    }
+
+    private double[] columnValues(String name) {
+        return switch (name) {
+            case "createdAt" -> createdAt;
+            case "updatedAt" -> updatedAt;
+            case "price" -> prices;
+            case "surface" -> surfaces;
+            case "bedrooms" -> bedrooms;
+            default -> throw new IllegalArgumentException(name);
+        };
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        references = Arrays.copyOf(references, capacity);
+        cities = Arrays.copyOf(cities, capacity);
+        createdAt = Arrays.copyOf(createdAt, capacity);
+        updatedAt = Arrays.copyOf(updatedAt, capacity);
+        prices = Arrays.copyOf(prices, capacity);
+        surfaces = Arrays.copyOf(surfaces, capacity);
+        bedrooms = Arrays.copyOf(bedrooms, capacity);
+        latitudes = Arrays.copyOf(latitudes, capacity);
+        longitudes = Arrays.copyOf(longitudes, capacity);
+    }
+
+    private static <E extends Enum<E>> void putEnum(EnumMap<Filter, BitSet> filters, Filter filter,
+                                                    BitSet[] bitsets, E value) {
+        if (value != null) {
+            filters.put(filter, bitsets[value.ordinal()]);
+        }
+    }
+
+    private void putFlag(EnumMap<Filter, BitSet> filters, Filter filter, BitSet flag, Boolean expected) {
+        if (Boolean.TRUE.equals(expected)) {
+            filters.put(filter, flag);
+        } else if (Boolean.FALSE.equals(expected)) {
+            BitSet without = (BitSet) live.clone();
+            without.andNot(flag);
+            filters.put(filter, without);
+        }
+    }
+
+    private static double toColumnValue(Comparable<?> key) {
+        return switch (key) {
+            case LocalDateTime dateTime -> toEpochMillis(dateTime);
+            case BigDecimal amount -> toCents(amount, RoundingMode.HALF_UP, Double.NaN);
+            default -> throw new IllegalArgumentException("Clé de tri non indexée : " + key);
+        };
+    }
+
+    private static double toCents(BigDecimal amount, RoundingMode roundingMode, double whenNull) {
+        return amount == null ? whenNull : amount.movePointRight(2).setScale(0, roundingMode).doubleValue();
+    }
+
+    private static BigDecimal fromCents(double cents) {
+        return BigDecimal.valueOf((long) cents).movePointLeft(2);
+    }
+
+    private static double toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? Double.NaN : dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static BitSet[] bitsets(int count) {
+        BitSet[] bitsets = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            bitsets[i] = new BitSet();
+        }
+        return bitsets;
+    }
+}
@@ -0,0 +1,160 @@
+package be.feysdigitalservices.immofds.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Slots of the index sorted by one numeric column (then by id). Missing values are stored as NaN,
+ * which sorts after every number: ascending iteration puts them last and descending iteration puts
+ * them first, the same as PostgreSQL's default NULLS ordering. Built with one sort at load, then kept
+ * sorted by inserting and removing single slots at their binary-searched position.
+ */
+final class RangeColumn {
+
+    private double[] sortedValues;
+    private long[] sortedIds;
+    private int[] sortedSlots;
+    private int size;
+
+    private RangeColumn(double[] sortedValues, long[] sortedIds, int[] sortedSlots) {
+        this.sortedValues = sortedValues;
+        this.sortedIds = sortedIds;
+        this.sortedSlots = sortedSlots;
+        this.size = sortedSlots.length;
+    }
+
+    static RangeColumn build(double[] values, long[] ids, BitSet live) {
+        Integer[] slots = live.stream().boxed().toArray(Integer[]::new);
+        Arrays.sort(slots, (a, b) -> {
+            int byValue = Double.compare(values[a], values[b]);
+            return byValue != 0 ? byValue : Long.compare(ids[a], ids[b]);
+        });
+
+        double[] sortedValues = new double[slots.length];
+        long[] sortedIds = new long[slots.length];
+        int[] sortedSlots = new int[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            sortedSlots[i] = slots[i];
+            sortedValues[i] = values[slots[i]];
+            sortedIds[i] = ids[slots[i]];
+        }
+        return new RangeColumn(sortedValues, sortedIds, sortedSlots);
+    }
+
+    void insert(int slot, double value, long id) {
+        if (size == sortedSlots.length) {
+            int capacity = Math.max(16, size * 2);
+            sortedValues = Arrays.copyOf(sortedValues, capacity);
+            sortedIds = Arrays.copyOf(sortedIds, capacity);
+            sortedSlots = Arrays.copyOf(sortedSlots, capacity);
+        }
+        int at = firstNotBefore(value, id);
+        System.arraycopy(sortedValues, at, sortedValues, at + 1, size - at);
+        System.arraycopy(sortedIds, at, sortedIds, at + 1, size - at);
+        System.arraycopy(sortedSlots, at, sortedSlots, at + 1, size - at);
+        sortedValues[at] = value;
+        sortedIds[at] = id;
+        sortedSlots[at] = slot;
+        size++;
+    }
+
+    /** Removes the slot inserted with this value and id. */
+    void remove(int slot, double value, long id) {
+        int at = firstNotBefore(value, id);
+        if (at == size || sortedSlots[at] != slot) {
+            throw new IllegalStateException("Slot " + slot + " absent de la colonne triée");
+        }
+        System.arraycopy(sortedValues, at + 1, sortedValues, at, size - at - 1);
+        System.arraycopy(sortedIds, at + 1, sortedIds, at, size - at - 1);
+        System.arraycopy(sortedSlots, at + 1, sortedSlots, at, size - at - 1);
+        size--;
+    }
+
+    BitSet range(double min, double max) {
+        BitSet result = new BitSet();
+        int to = firstGreaterThan(max);
+        for (int i = firstAtLeast(min); i < to; i++) {
+            result.set(sortedSlots[i]);
+        }
+        return result;
+    }
+
+    int[] page(BitSet matches, boolean ascending, long offset, int limit) {
+        return collect(matches, ascending, ascending ? 0 : size - 1, offset, limit);
+    }
+
+    /** Keyset page: the matching slots strictly after the given value and id in the iteration order. */
+    int[] pageAfter(BitSet matches, boolean ascending, double value, long id, int limit) {
+        int from = firstNotBefore(value, id);
+        if (ascending) {
+            if (from < size && Double.compare(sortedValues[from], value) == 0 && sortedIds[from] == id) {
+                from++;
+            }
+        } else {
+            from--;
+        }
+        return collect(matches, ascending, from, 0, limit);
+    }
+
+    private int[] collect(BitSet matches, boolean ascending, int from, long offset, int limit) {
+        int[] page = new int[limit];
+        int found = 0;
+        long toSkip = offset;
+        int step = ascending ? 1 : -1;
+        for (int i = from; i >= 0 && i < size && found < limit; i += step) {
+            int slot = sortedSlots[i];
+            if (!matches.get(slot)) {
+                continue;
+            }
+            if (toSkip > 0) {
+                toSkip--;
+                continue;
+            }
+            page[found++] = slot;
+        }
+        return Arrays.copyOf(page, found);
+    }
+
+    private int firstNotBefore(double value, long id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int byValue = Double.compare(sortedValues[mid], value);
+            if (byValue < 0 || byValue == 0 && sortedIds[mid] < id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int firstAtLeast(double value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Double.compare(sortedValues[mid], value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int firstGreaterThan(double value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Double.compare(sortedValues[mid], value) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
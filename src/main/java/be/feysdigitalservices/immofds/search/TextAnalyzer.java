@@ -0,0 +1,86 @@
+package be.feysdigitalservices.immofds.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Turns French and Dutch free text into index terms: accents folded, case ignored, stop words dropped and
+ * the common inflections (plurals, feminine forms, diminutives) stripped, so that "Liège" and "liege" or
+ * "maisons" and "maison" give the same term. The indexed text and the query go through the same analysis,
+ * which is all a light stemmer has to guarantee.
+ */
+final class TextAnalyzer {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            // français
+            "le", "la", "les", "un", "une", "des", "du", "de", "et", "ou", "au", "aux", "en", "dans", "sur",
+            "avec", "pour", "par", "ce", "cet", "cette", "ces", "son", "sa", "ses", "est", "qui", "que",
+            // néerlandais
+            "het", "een", "van", "op", "te", "met", "voor", "aan", "bij", "is", "die", "dat", "of", "in", "naar");
+
+    private TextAnalyzer() {}
+
+    static String fold(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT)
+                .replace("œ", "oe")
+                .replace("æ", "ae")
+                .replace("ß", "ss");
+    }
+
+    static Set<String> terms(String... texts) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            for (String token : SEPARATORS.split(fold(text))) {
+                if (token.length() > 1 && !STOP_WORDS.contains(token)) {
+                    terms.add(stem(token));
+                }
+            }
+        }
+        return terms;
+    }
+
+    static String stem(String token) {
+        if (token.length() <= 3 || !token.chars().allMatch(Character::isLetter)) {
+            return token;
+        }
+        String term = token;
+        // diminutifs néerlandais : tuintje, huisje
+        if (term.endsWith("tje") && term.length() > 5) {
+            term = cut(term, 3);
+        } else if (term.endsWith("je") && term.length() > 5) {
+            term = cut(term, 2);
+        }
+        // pluriels : travaux, maisons, prix
+        if (term.endsWith("aux") && term.length() > 5) {
+            term = cut(term, 3) + "al";
+        } else if ((term.endsWith("s") || term.endsWith("x")) && !term.endsWith("ss") && term.length() > 3) {
+            term = cut(term, 1);
+        }
+        // pluriels néerlandais : woningen, huizen (qui rejoint huis, déjà réduit à hui)
+        if (term.endsWith("en") && term.length() > 5) {
+            term = cut(term, 2);
+            if (term.endsWith("z")) {
+                term = cut(term, 1);
+            }
+        }
+        // féminins et participes : rénovée, meublée, Liège
+        for (int i = 0; i < 2 && term.endsWith("e") && term.length() > 4; i++) {
+            term = cut(term, 1);
+        }
+        return term;
+    }
+
+    private static String cut(String term, int suffixLength) {
+        return term.substring(0, term.length() - suffixLength);
+    }
+}
@@ -0,0 +1,55 @@
+package be.feysdigitalservices.immofds.search;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index from {@link TextAnalyzer} terms to the slots whose text contains them. The terms of each
+ * slot are kept so that a removed slot can be cleared from its postings without scanning the vocabulary.
+ */
+final class TextIndex {
+
+    private final Map<String, BitSet> postings = new HashMap<>();
+    private final Map<Integer, Set<String>> termsBySlot = new HashMap<>();
+
+    void add(int slot, Set<String> terms) {
+        termsBySlot.put(slot, terms);
+        for (String term : terms) {
+            postings.computeIfAbsent(term, t -> new BitSet()).set(slot);
+        }
+    }
+
+    void remove(int slot) {
+        Set<String> terms = termsBySlot.remove(slot);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            BitSet slots = postings.get(term);
+            slots.clear(slot);
+            if (slots.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    /** Slots containing every term; an unknown term matches nothing. */
+    BitSet matchAll(Collection<String> terms) {
+        BitSet result = null;
+        for (String term : terms) {
+            BitSet slots = postings.get(term);
+            if (slots == null) {
+                return new BitSet();
+            }
+            if (result == null) {
+                result = (BitSet) slots.clone();
+            } else {
+                result.and(slots);
+            }
+        }
+        return result != null ? result : new BitSet();
+    }
+}
@@ -0,0 +1,25 @@
+package be.feysdigitalservices.immofds.security;
+
+import be.feysdigitalservices.immofds.domain.entity.User;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * Principal of a password authentication. Keeps the {@link User} loaded for the check so the
+ * login can issue its tokens without reading the user again.
+ */
+public class AuthenticatedUser extends org.springframework.security.core.userdetails.User {
+
+    private final transient User user;
+
+    public AuthenticatedUser(User user) {
+        super(user.getEmail(), user.getPassword(), user.isActive(), true, true, true,
+                List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name())));
+        this.user = user;
+    }
+
+    public User getUser() {
+        return user;
+    }
+}
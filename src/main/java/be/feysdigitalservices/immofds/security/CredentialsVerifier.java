@@ -0,0 +1,74 @@
+package be.feysdigitalservices.immofds.security;
+
+import be.feysdigitalservices.immofds.config.AsyncConfig;
+import be.feysdigitalservices.immofds.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Checks login credentials on the {@code passwordVerificationExecutor} so BCrypt never runs on
+ * more than a few threads at once. Callers over the per-email/per-IP limits or arriving while the
+ * executor queue is full get a {@link TooManyRequestsException} without any hashing.
+ */
+@Component
+public class CredentialsVerifier {
+
+    private static final Duration SATURATED_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final AuthenticationManager authenticationManager;
+    private final AsyncTaskExecutor executor;
+    private final LoginAttemptLimiter attemptLimiter;
+
+    public CredentialsVerifier(AuthenticationManager authenticationManager,
+                               @Qualifier(AsyncConfig.PASSWORD_VERIFICATION_EXECUTOR) AsyncTaskExecutor executor,
+                               LoginAttemptLimiter attemptLimiter) {
+        this.authenticationManager = authenticationManager;
+        this.executor = executor;
+        this.attemptLimiter = attemptLimiter;
+    }
+
+    public Authentication verify(String email, String password, String clientIp) {
+        attemptLimiter.reserve(email, clientIp);
+
+        Future<Authentication> result;
+        try {
+            result = executor.submit(() -> authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(email, password)));
+        } catch (TaskRejectedException e) {
+            attemptLimiter.release(email, clientIp);
+            throw new TooManyRequestsException(
+                    "Service de connexion saturé, veuillez réessayer", SATURATED_RETRY_AFTER);
+        }
+
+        try {
+            Authentication authentication = result.get();
+            attemptLimiter.recordSuccess(email, clientIp);
+            return authentication;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof AuthenticationException authenticationException) {
+                // La réservation reste comptée comme échec
+                throw authenticationException;
+            }
+            attemptLimiter.release(email, clientIp);
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            attemptLimiter.release(email, clientIp);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Vérification du mot de passe interrompue", e);
+        }
+    }
+}
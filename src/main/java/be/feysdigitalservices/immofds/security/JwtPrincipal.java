@@ -0,0 +1,25 @@
+package be.feysdigitalservices.immofds.security;
+
+import be.feysdigitalservices.immofds.domain.enums.UserRole;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * Claims of a verified access token. Used as the authentication principal of admin requests,
+ * so they are authenticated without loading the user.
+ */
+public record JwtPrincipal(
+        Long userId,
+        String email,
+        UserRole role,
+        boolean active,
+        int tokenVersion,
+        Instant expiresAt
+) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -1,59 +1,69 @@
 package be.feysdigitalservices.immofds.security;
 
 import be.feysdigitalservices.immofds.config.JwtConfig;
+import be.feysdigitalservices.immofds.domain.entity.User;
+import be.feysdigitalservices.immofds.domain.enums.UserRole;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
 
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_ACTIVE = "active";
+    static final String CLAIM_TOKEN_VERSION = "ver";
+
     private final SecretKey key;
+    private final JwtParser parser;
     private final long expirationMs;
 
     public JwtTokenProvider(JwtConfig jwtConfig) {
         this.key = Keys.hmacShaKeyFor(jwtConfig.secret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
         this.expirationMs = jwtConfig.expirationMs();
     }
 
-    public String generateToken(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return generateToken(userDetails.getUsername());
-    }
-
-    public String generateToken(String email) {
+    public String generateToken(User user) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expirationMs);
 
         return Jwts.builder()
-                .subject(email)
+                .subject(user.getEmail())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_ROLE, user.getRole().name())
+                .claim(CLAIM_ACTIVE, user.isActive())
+                .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion())
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(key)
                 .compact();
     }
 
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.getSubject();
-    }
-
-    public boolean validateToken(String token) {
+    /**
+     * Verifies the signature and expiry in a single parse. Empty for invalid tokens and for tokens
+     * issued before the role/active/version claims existed.
+     */
+    public Optional<JwtPrincipal> parseToken(String token) {
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Long userId = claims.get(CLAIM_USER_ID, Long.class);
+            String role = claims.get(CLAIM_ROLE, String.class);
+            Boolean active = claims.get(CLAIM_ACTIVE, Boolean.class);
+            Integer tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Integer.class);
+            if (userId == null || role == null || active == null || tokenVersion == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new JwtPrincipal(userId, claims.getSubject(), UserRole.valueOf(role),
+                    active, tokenVersion, claims.getExpiration().toInstant()));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
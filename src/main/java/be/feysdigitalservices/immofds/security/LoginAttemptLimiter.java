@@ -0,0 +1,91 @@
+package be.feysdigitalservices.immofds.security;
+
+import be.feysdigitalservices.immofds.config.LoginConfig;
+import be.feysdigitalservices.immofds.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Failed login counters per email and per client IP, kept in memory. Each attempt reserves a slot
+ * in both counters before the password is checked, so a burst of concurrent attempts cannot get
+ * past the limits before the first failure is recorded. A failed attempt keeps its slot, any other
+ * outcome gives it back, and a successful login clears the email counter. A counter starts with
+ * the first reservation and is dropped {@code login.failure-window} later.
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private static final int MAX_TRACKED_KEYS = 100_000;
+
+    private final LoginConfig config;
+    private final Cache<String, AtomicInteger> failuresByEmail;
+    private final Cache<String, AtomicInteger> failuresByIp;
+
+    public LoginAttemptLimiter(LoginConfig config) {
+        this.config = config;
+        this.failuresByEmail = newCounters(config);
+        this.failuresByIp = newCounters(config);
+    }
+
+    /**
+     * Reserves one attempt for this email and IP, or throws {@link TooManyRequestsException} when
+     * either counter is already at its limit.
+     */
+    public void reserve(String email, String clientIp) {
+        String key = normalize(email);
+        if (!tryIncrement(failuresByEmail, key, config.maxFailuresPerEmail())) {
+            throw tooManyAttempts();
+        }
+        if (!tryIncrement(failuresByIp, clientIp, config.maxFailuresPerIp())) {
+            decrement(failuresByEmail, key);
+            throw tooManyAttempts();
+        }
+    }
+
+    /**
+     * Gives back a reservation whose attempt ended without a credentials check (executor saturated,
+     * unexpected error).
+     */
+    public void release(String email, String clientIp) {
+        decrement(failuresByEmail, normalize(email));
+        decrement(failuresByIp, clientIp);
+    }
+
+    public void recordSuccess(String email, String clientIp) {
+        failuresByEmail.invalidate(normalize(email));
+        decrement(failuresByIp, clientIp);
+    }
+
+    private TooManyRequestsException tooManyAttempts() {
+        return new TooManyRequestsException(
+                "Trop de tentatives de connexion, veuillez réessayer plus tard", config.failureWindow());
+    }
+
+    private static boolean tryIncrement(Cache<String, AtomicInteger> counters, String key, int max) {
+        AtomicInteger counter = counters.get(key, k -> new AtomicInteger());
+        return counter.getAndUpdate(n -> n < max ? n + 1 : n) < max;
+    }
+
+    private static void decrement(Cache<String, AtomicInteger> counters, String key) {
+        // Le compteur a pu être vidé entre-temps par une connexion réussie
+        AtomicInteger counter = counters.getIfPresent(key);
+        if (counter != null) {
+            counter.updateAndGet(n -> Math.max(0, n - 1));
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Cache<String, AtomicInteger> newCounters(LoginConfig config) {
+        return Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_KEYS)
+                .expireAfterWrite(config.failureWindow())
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package be.feysdigitalservices.immofds.security;
+
+import be.feysdigitalservices.immofds.event.UserTokenVersionChangedEvent;
+import be.feysdigitalservices.immofds.repository.UserRepository;
+import be.feysdigitalservices.immofds.repository.UserTokenVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of {@code users.token_version}, so access tokens are checked against the current
+ * version without a query. Changes made through {@code UserService} are applied on this instance once
+ * committed; the full reload every few seconds picks up changes made by other instances and deleted users.
+ */
+@Component
+public class TokenRevocationCache {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationCache.class);
+
+    private final UserRepository userRepository;
+
+    private volatile Map<Long, Integer> versions;
+
+    public TokenRevocationCache(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        Map<Long, Integer> current = versions;
+        if (current == null) {
+            current = loadIfNeeded();
+        }
+        Integer version = current.get(userId);
+        return version != null && version == tokenVersion;
+    }
+
+    /**
+     * Runs after commit, so a rolled back change is never applied and a reload cannot read the old
+     * version after it. Synchronized with {@link #reload()} so that the change lands in the map that
+     * reload swaps in rather than in the one it replaces.
+     */
+    @TransactionalEventListener
+    public synchronized void onUserTokenVersionChanged(UserTokenVersionChangedEvent event) {
+        if (event.tokenVersion() == null) {
+            remove(event.userId());
+        } else {
+            update(event.userId(), event.tokenVersion());
+        }
+    }
+
+    public synchronized void update(Long userId, int tokenVersion) {
+        loadIfNeeded().put(userId, tokenVersion);
+    }
+
+    public synchronized void remove(Long userId) {
+        loadIfNeeded().remove(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation-refresh-interval:PT5S}")
+    public synchronized void reload() {
+        List<UserTokenVersion> rows = userRepository.findTokenVersions();
+        Map<Long, Integer> loaded = new ConcurrentHashMap<>(rows.size() * 2);
+        for (UserTokenVersion row : rows) {
+            loaded.put(row.userId(), row.tokenVersion());
+        }
+        versions = loaded;
+        log.trace("Versions de jetons rechargées : {} utilisateurs", loaded.size());
+    }
+
+    private synchronized Map<Long, Integer> loadIfNeeded() {
+        if (versions == null) {
+            reload();
+        }
+        return versions;
+    }
+}
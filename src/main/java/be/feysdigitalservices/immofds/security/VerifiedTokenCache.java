@@ -0,0 +1,74 @@
+package be.feysdigitalservices.immofds.security;
+
+import be.feysdigitalservices.immofds.config.JwtConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Access tokens whose signature has already been verified, keyed by the SHA-256 of the token so the
+ * bearer strings themselves are not kept. Each entry expires with its token. Invalid tokens are
+ * never cached; revocation is still checked on every request by {@link TokenRevocationCache}.
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private final JwtTokenProvider tokenProvider;
+    private final Cache<String, JwtPrincipal> verified;
+
+    public VerifiedTokenCache(JwtTokenProvider tokenProvider, JwtConfig jwtConfig) {
+        this.tokenProvider = tokenProvider;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(jwtConfig.verifiedTokenCacheSize())
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    public Optional<JwtPrincipal> verify(String token) {
+        String key = TokenHashing.sha256Hex(token);
+        JwtPrincipal principal = verified.getIfPresent(key);
+        if (principal != null) {
+            return Optional.of(principal);
+        }
+        Optional<JwtPrincipal> parsed = tokenProvider.parseToken(token);
+        parsed.ifPresent(p -> verified.put(key, p));
+        return parsed;
+    }
+
+    public CacheStats stats() {
+        return verified.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verified, "verifiedTokens");
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), principal.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -10,56 +10,56 @@ import be.feysdigitalservices.immofds.dto.response.UserResponse;
 import be.feysdigitalservices.immofds.exception.InvalidTokenException;
 import be.feysdigitalservices.immofds.mapper.UserMapper;
 import be.feysdigitalservices.immofds.repository.RefreshTokenRepository;
-import be.feysdigitalservices.immofds.repository.UserRepository;
+import be.feysdigitalservices.immofds.security.AuthenticatedUser;
+import be.feysdigitalservices.immofds.security.CredentialsVerifier;
 import be.feysdigitalservices.immofds.security.JwtTokenProvider;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import be.feysdigitalservices.immofds.security.TokenHashing;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.util.UUID;
 
 @Service
 public class AuthService {
 
-    private final AuthenticationManager authenticationManager;
+    private final CredentialsVerifier credentialsVerifier;
     private final JwtTokenProvider tokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final JwtConfig jwtConfig;
 
-    public AuthService(AuthenticationManager authenticationManager, JwtTokenProvider tokenProvider,
-                       RefreshTokenRepository refreshTokenRepository, UserRepository userRepository,
-                       UserMapper userMapper, JwtConfig jwtConfig) {
-        this.authenticationManager = authenticationManager;
+    public AuthService(CredentialsVerifier credentialsVerifier, JwtTokenProvider tokenProvider,
+                       RefreshTokenRepository refreshTokenRepository, UserMapper userMapper,
+                       JwtConfig jwtConfig) {
+        this.credentialsVerifier = credentialsVerifier;
         this.tokenProvider = tokenProvider;
         this.refreshTokenRepository = refreshTokenRepository;
-        this.userRepository = userRepository;
         this.userMapper = userMapper;
         this.jwtConfig = jwtConfig;
     }
 
-    @Transactional
-    public AuthResponse login(LoginRequest request) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.email(), request.password()));
+    /**
+     * Not transactional: no connection is held while the password is hashed. The user loaded for
+     * the password check is reused for the tokens; the refresh token insert runs in its own
+     * repository transaction.
+     */
+    public AuthResponse login(LoginRequest request, String clientIp) {
+        Authentication authentication = credentialsVerifier.verify(request.email(), request.password(), clientIp);
 
-        String accessToken = tokenProvider.generateToken(authentication);
-        User user = userRepository.findByEmail(request.email())
-                .orElseThrow(() -> new InvalidTokenException("Utilisateur non trouvé"));
+        User user = ((AuthenticatedUser) authentication.getPrincipal()).getUser();
+        String accessToken = tokenProvider.generateToken(user);
 
-        RefreshToken refreshToken = createRefreshToken(user);
+        String refreshToken = createRefreshToken(user);
         UserResponse userResponse = userMapper.toResponse(user);
 
-        return new AuthResponse(accessToken, refreshToken.getToken(), tokenProvider.getExpirationMs(), userResponse);
+        return new AuthResponse(accessToken, refreshToken, tokenProvider.getExpirationMs(), userResponse);
     }
 
     @Transactional
     public AuthResponse refresh(RefreshTokenRequest request) {
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(request.refreshToken())
+        String currentHash = TokenHashing.sha256Hex(request.refreshToken());
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(currentHash)
                 .orElseThrow(() -> new InvalidTokenException("Refresh token invalide"));
 
         if (refreshToken.isExpired()) {
@@ -67,26 +67,40 @@ public class AuthService {
             throw new InvalidTokenException("Refresh token expiré");
         }
 
+        // Rotation : le token présenté n'est plus valable, la ligne est réutilisée pour le suivant.
+        // Conditionnelle, pour qu'un seul de deux rafraîchissements concurrents du même token aboutisse.
+        String rotated = TokenHashing.randomToken();
+        int updated = refreshTokenRepository.rotate(currentHash, TokenHashing.sha256Hex(rotated),
+                Instant.now().plusMillis(jwtConfig.refreshExpirationMs()), Instant.now());
+        if (updated == 0) {
+            throw new InvalidTokenException("Refresh token invalide");
+        }
+
         User user = refreshToken.getUser();
-        String accessToken = tokenProvider.generateToken(user.getEmail());
+        String accessToken = tokenProvider.generateToken(user);
         UserResponse userResponse = userMapper.toResponse(user);
 
-        return new AuthResponse(accessToken, refreshToken.getToken(), tokenProvider.getExpirationMs(), userResponse);
+        return new AuthResponse(accessToken, rotated, tokenProvider.getExpirationMs(), userResponse);
     }
 
     @Transactional
     public void logout(String refreshToken) {
-        refreshTokenRepository.deleteByToken(refreshToken);
+        refreshTokenRepository.deleteByTokenHash(TokenHashing.sha256Hex(refreshToken));
     }
 
-    private RefreshToken createRefreshToken(User user) {
-        refreshTokenRepository.deleteByUserId(user.getId());
+    /**
+     * One row per login, so each device keeps its own session. Only the hash is stored; the raw
+     * value is returned once to the client.
+     */
+    private String createRefreshToken(User user) {
+        String token = TokenHashing.randomToken();
 
         RefreshToken refreshToken = new RefreshToken();
-        refreshToken.setToken(UUID.randomUUID().toString());
+        refreshToken.setTokenHash(TokenHashing.sha256Hex(token));
         refreshToken.setUser(user);
         refreshToken.setExpiryDate(Instant.now().plusMillis(jwtConfig.refreshExpirationMs()));
+        refreshTokenRepository.save(refreshToken);
 
-        return refreshTokenRepository.save(refreshToken);
+        return token;
     }
 }
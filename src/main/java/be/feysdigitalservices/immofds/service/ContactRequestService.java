@@ -122,6 +122,8 @@ public class ContactRequestService {
     @Transactional
     public void deleteContact(Long id) {
         ContactRequest entity = findById(id);
+        // Une seule requête pour les notes, au lieu d'un DELETE par note via la cascade
+        contactNoteRepository.deleteByContactRequestId(id);
         contactRequestRepository.delete(entity);
     }
 
@@ -0,0 +1,116 @@
+package be.feysdigitalservices.immofds.service;
+
+import be.feysdigitalservices.immofds.config.AsyncConfig;
+import be.feysdigitalservices.immofds.domain.entity.PropertyImage;
+import be.feysdigitalservices.immofds.domain.entity.PropertyImageVariant;
+import be.feysdigitalservices.immofds.domain.enums.ImageSize;
+import be.feysdigitalservices.immofds.event.PropertyImageUploadedEvent;
+import be.feysdigitalservices.immofds.repository.PropertyImageMetadata;
+import be.feysdigitalservices.immofds.repository.PropertyImageRepository;
+import be.feysdigitalservices.immofds.repository.PropertyImageVariantRepository;
+import be.feysdigitalservices.immofds.storage.ImageResizer;
+import be.feysdigitalservices.immofds.storage.ImageStorage;
+import be.feysdigitalservices.immofds.storage.StoredImage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class ImageDerivativeService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageDerivativeService.class);
+    private static final int BACKFILL_BATCH_SIZE = 50;
+
+    private final PropertyImageRepository imageRepository;
+    private final PropertyImageVariantRepository variantRepository;
+    private final ImageStorage imageStorage;
+    private final TaskExecutor derivativeExecutor;
+
+    public ImageDerivativeService(PropertyImageRepository imageRepository,
+                                  PropertyImageVariantRepository variantRepository, ImageStorage imageStorage,
+                                  @Qualifier(AsyncConfig.IMAGE_DERIVATIVE_EXECUTOR) TaskExecutor derivativeExecutor) {
+        this.imageRepository = imageRepository;
+        this.variantRepository = variantRepository;
+        this.imageStorage = imageStorage;
+        this.derivativeExecutor = derivativeExecutor;
+    }
+
+    @Async(AsyncConfig.IMAGE_DERIVATIVE_EXECUTOR)
+    @TransactionalEventListener
+    public void onImageUploaded(PropertyImageUploadedEvent event) {
+        generate(event.imageId(), event.storageKey());
+    }
+
+    /**
+     * Only queues the images on the derivative executor: the scheduler thread is shared with the
+     * other scheduled jobs and must not spend minutes decoding photos.
+     */
+    @Scheduled(fixedDelayString = "${image-storage.derivative-backfill-interval:PT1H}")
+    public void generateMissing() {
+        for (PropertyImageMetadata image : imageRepository.findWithoutVariants(Limit.of(BACKFILL_BATCH_SIZE))) {
+            derivativeExecutor.execute(() -> generate(image.id(), image.storageKey()));
+        }
+    }
+
+    /**
+     * Produces every {@link ImageSize} from the largest down, each from the previous one. Sizes
+     * larger than the original are re-encoded at the original size, and identical outputs share
+     * one blob in the storage. An image that cannot be decoded is marked so that the backfill
+     * stops picking it up.
+     */
+    public void generate(Long imageId, String storageKey) {
+        if (variantRepository.existsByImageId(imageId)) {
+            return;
+        }
+        try {
+            BufferedImage current;
+            try (InputStream content = imageStorage.load(storageKey).getInputStream()) {
+                current = ImageResizer.read(content);
+            } catch (IOException | RuntimeException e) {
+                log.warn("Image {} illisible, pas de variantes", imageId, e);
+                imageRepository.markVariantsUnsupported(imageId);
+                return;
+            }
+            if (current == null) {
+                log.debug("Format de l'image {} non pris en charge, pas de variantes", imageId);
+                imageRepository.markVariantsUnsupported(imageId);
+                return;
+            }
+
+            PropertyImage image = imageRepository.getReferenceById(imageId);
+            List<PropertyImageVariant> variants = new ArrayList<>();
+            for (int i = ImageSize.values().length - 1; i >= 0; i--) {
+                ImageSize size = ImageSize.values()[i];
+                current = ImageResizer.scale(current, size.getMaxDimension());
+                ImageResizer.Encoded encoded = ImageResizer.encode(current);
+                StoredImage stored = imageStorage.store(new ByteArrayInputStream(encoded.bytes()));
+
+                PropertyImageVariant variant = new PropertyImageVariant();
+                variant.setImage(image);
+                variant.setImageSize(size);
+                variant.setStorageKey(stored.key());
+                variant.setContentType(encoded.contentType());
+                variant.setWidth(encoded.width());
+                variant.setHeight(encoded.height());
+                variant.setSizeBytes(stored.size());
+                variants.add(variant);
+            }
+            variantRepository.saveAll(variants);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Génération des variantes de l'image {} impossible", imageId, e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package be.feysdigitalservices.immofds.service;
+
+import be.feysdigitalservices.immofds.config.PropertyCacheConfig;
+import be.feysdigitalservices.immofds.event.PropertyChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Public property details kept as the UTF-8 JSON sent to clients, like {@link PropertySearchPageCache}:
+ * a hit neither maps nor serializes. Concurrent misses on one reference share a single load.
+ */
+@Component
+public class PropertyDetailCache implements MeterBinder {
+
+    public record SerializedDetail(byte[] json, String etag) {}
+
+    private final PropertyService propertyService;
+    private final JsonMapper jsonMapper;
+    private final Cache<String, SerializedDetail> details;
+
+    public PropertyDetailCache(PropertyService propertyService, JsonMapper jsonMapper, PropertyCacheConfig config) {
+        this.propertyService = propertyService;
+        this.jsonMapper = jsonMapper;
+        this.details = Caffeine.newBuilder()
+                .maximumSize(config.detailMaxSize())
+                .expireAfterWrite(config.detailTtl())
+                .recordStats()
+                .build();
+    }
+
+    public SerializedDetail get(String reference) {
+        return details.get(reference, r -> serialize(propertyService.getPublicPropertyByReference(r)));
+    }
+
+    /**
+     * Runs after commit: evicting earlier would let a concurrent reader cache the old row again
+     * before the change becomes visible. An eviction waits for a load of the same reference in progress.
+     */
+    @TransactionalEventListener
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        details.invalidate(event.property().getReference());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, details, "publicPropertyDetails");
+    }
+
+    private SerializedDetail serialize(Object response) {
+        byte[] json = jsonMapper.writeValueAsBytes(response);
+        return new SerializedDetail(json, "W/\"" + DigestUtils.md5DigestAsHex(json) + "\"");
+    }
+}
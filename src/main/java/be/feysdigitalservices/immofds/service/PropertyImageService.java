@@ -2,43 +2,72 @@ package be.feysdigitalservices.immofds.service;
 
 import be.feysdigitalservices.immofds.domain.entity.Property;
 import be.feysdigitalservices.immofds.domain.entity.PropertyImage;
+import be.feysdigitalservices.immofds.domain.enums.ImageSize;
 import be.feysdigitalservices.immofds.dto.request.ImageReorderRequest;
 import be.feysdigitalservices.immofds.dto.response.PropertyImageResponse;
+import be.feysdigitalservices.immofds.event.PropertyChangedEvent;
+import be.feysdigitalservices.immofds.event.PropertyImageUploadedEvent;
 import be.feysdigitalservices.immofds.exception.ImageProcessingException;
 import be.feysdigitalservices.immofds.exception.ResourceNotFoundException;
 import be.feysdigitalservices.immofds.mapper.PropertyMapper;
+import be.feysdigitalservices.immofds.repository.PropertyImageMetadata;
 import be.feysdigitalservices.immofds.repository.PropertyImageRepository;
+import be.feysdigitalservices.immofds.repository.PropertyImageVariantRepository;
+import be.feysdigitalservices.immofds.storage.DatabaseImageResource;
+import be.feysdigitalservices.immofds.storage.ImageStorage;
+import be.feysdigitalservices.immofds.storage.StoredImage;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class PropertyImageService {
 
     private final PropertyImageRepository imageRepository;
+    private final PropertyImageVariantRepository variantRepository;
     private final PropertyService propertyService;
     private final PropertyMapper propertyMapper;
-
-    public PropertyImageService(PropertyImageRepository imageRepository, PropertyService propertyService,
-                                PropertyMapper propertyMapper) {
+    private final ImageStorage imageStorage;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PropertyImageService(PropertyImageRepository imageRepository, PropertyImageVariantRepository variantRepository,
+                                PropertyService propertyService, PropertyMapper propertyMapper,
+                                ImageStorage imageStorage, JdbcTemplate jdbcTemplate,
+                                ApplicationEventPublisher eventPublisher) {
         this.imageRepository = imageRepository;
+        this.variantRepository = variantRepository;
         this.propertyService = propertyService;
         this.propertyMapper = propertyMapper;
+        this.imageStorage = imageStorage;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public PropertyImageResponse uploadImage(String propertyReference, MultipartFile file, boolean isPrimary) {
         Property property = propertyService.findByReference(propertyReference);
 
-        try {
+        try (InputStream content = file.getInputStream()) {
+            StoredImage stored = imageStorage.store(content);
+
             PropertyImage image = new PropertyImage();
             image.setFileName(file.getOriginalFilename());
             image.setContentType(file.getContentType());
-            image.setData(file.getBytes());
+            image.setStorageKey(stored.key());
+            image.setSizeBytes(stored.size());
             image.setDisplayOrder(imageRepository.findMaxDisplayOrderByPropertyId(property.getId()).orElse(-1) + 1);
             image.setPrimary(isPrimary);
             image.setProperty(property);
@@ -48,17 +77,32 @@ public class PropertyImageService {
             }
 
             PropertyImage saved = imageRepository.save(image);
+            eventPublisher.publishEvent(new PropertyImageUploadedEvent(saved.getId(), saved.getStorageKey()));
+            eventPublisher.publishEvent(new PropertyChangedEvent(property));
             return propertyMapper.toImageResponse(saved);
         } catch (IOException e) {
             throw new ImageProcessingException("Erreur lors du traitement de l'image", e);
         }
     }
 
-    public PropertyImage getImage(Long imageId) {
-        return imageRepository.findById(imageId)
+    public PropertyImageMetadata getImage(Long imageId, ImageSize size) {
+        if (size != null) {
+            Optional<PropertyImageMetadata> variant = variantRepository.findMetadataByImageIdAndImageSize(imageId, size);
+            if (variant.isPresent()) {
+                return variant.get();
+            }
+        }
+        return imageRepository.findMetadataById(imageId)
                 .orElseThrow(() -> new ResourceNotFoundException("Image", "id", imageId));
     }
 
+    public Resource getImageContent(PropertyImageMetadata image) {
+        if (image.storageKey() != null) {
+            return imageStorage.load(image.storageKey());
+        }
+        return new DatabaseImageResource(jdbcTemplate, image.id(), image.sizeBytes());
+    }
+
     public List<PropertyImageResponse> getImagesByProperty(String propertyReference) {
         Property property = propertyService.findByReference(propertyReference);
         List<PropertyImage> images = imageRepository.findByPropertyIdOrderByDisplayOrderAsc(property.getId());
@@ -69,13 +113,18 @@ public class PropertyImageService {
     public void reorderImages(String propertyReference, ImageReorderRequest request) {
         Property property = propertyService.findByReference(propertyReference);
         List<Long> imageIds = request.imageIds();
+        Map<Long, PropertyImage> images = imageRepository.findByPropertyIdOrderByDisplayOrderAsc(property.getId())
+                .stream()
+                .collect(Collectors.toMap(PropertyImage::getId, Function.identity()));
 
         for (int i = 0; i < imageIds.size(); i++) {
-            PropertyImage image = imageRepository.findByIdAndPropertyId(imageIds.get(i), property.getId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Image non trouvée pour ce bien"));
+            PropertyImage image = images.get(imageIds.get(i));
+            if (image == null) {
+                throw new ResourceNotFoundException("Image non trouvée pour ce bien");
+            }
             image.setDisplayOrder(i);
-            imageRepository.save(image);
         }
+        eventPublisher.publishEvent(new PropertyChangedEvent(property));
     }
 
     @Transactional
@@ -87,6 +136,7 @@ public class PropertyImageService {
         clearPrimaryFlag(property.getId());
         image.setPrimary(true);
         imageRepository.save(image);
+        eventPublisher.publishEvent(new PropertyChangedEvent(property));
     }
 
     @Transactional
@@ -95,6 +145,7 @@ public class PropertyImageService {
         PropertyImage image = imageRepository.findByIdAndPropertyId(imageId, property.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Image", "id", imageId));
         imageRepository.delete(image);
+        eventPublisher.publishEvent(new PropertyChangedEvent(property));
     }
 
     private void clearPrimaryFlag(Long propertyId) {
@@ -0,0 +1,77 @@
+package be.feysdigitalservices.immofds.service;
+
+import be.feysdigitalservices.immofds.config.PropertyCacheConfig;
+import be.feysdigitalservices.immofds.dto.request.PropertySearchCriteria;
+import be.feysdigitalservices.immofds.event.PropertyChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Public search pages kept as the UTF-8 JSON sent to clients, so that a hit skips both the search
+ * and Jackson. Weighed by size in bytes; the whole cache is dropped after any committed change to
+ * a property or its images.
+ */
+@Component
+public class PropertySearchPageCache implements MeterBinder {
+
+    public record SerializedPage(byte[] json, String etag) {}
+
+    private record Key(long generation, PropertySearchCriteria criteria, int page, int size, Sort sort) {}
+
+    private final PropertyService propertyService;
+    private final JsonMapper jsonMapper;
+    private final Cache<Key, SerializedPage> pages;
+    private final AtomicLong generation = new AtomicLong();
+
+    public PropertySearchPageCache(PropertyService propertyService, JsonMapper jsonMapper,
+                                   PropertyCacheConfig config) {
+        this.propertyService = propertyService;
+        this.jsonMapper = jsonMapper;
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(config.pageMaxBytes())
+                .weigher((Key key, SerializedPage page) -> page.json().length)
+                .expireAfterWrite(config.pageTtl())
+                .recordStats()
+                .build();
+    }
+
+    public SerializedPage get(PropertySearchCriteria criteria, Pageable pageable) {
+        Key key = new Key(generation.get(), criteria, pageable.getPageNumber(), pageable.getPageSize(),
+                pageable.getSort());
+        return pages.get(key, k -> serialize(propertyService.searchPublicProperties(criteria, pageable)));
+    }
+
+    /**
+     * Ordered after the search index listener. Bumping the generation keeps a page computed before
+     * the change, but stored after the purge, from ever being served.
+     */
+    @TransactionalEventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        generation.incrementAndGet();
+        pages.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, pages, "publicSearchPages");
+    }
+
+    private SerializedPage serialize(Object response) {
+        byte[] json = jsonMapper.writeValueAsBytes(response);
+        return new SerializedPage(json, "W/\"" + DigestUtils.md5DigestAsHex(json) + "\"");
+    }
+}
@@ -2,42 +2,122 @@ package be.feysdigitalservices.immofds.service;
 
 import be.feysdigitalservices.immofds.domain.entity.Property;
 import be.feysdigitalservices.immofds.domain.enums.PropertyStatus;
+import be.feysdigitalservices.immofds.domain.enums.Province;
 import be.feysdigitalservices.immofds.dto.request.PropertyCreateRequest;
 import be.feysdigitalservices.immofds.dto.request.PropertySearchCriteria;
 import be.feysdigitalservices.immofds.dto.request.PropertyUpdateRequest;
+import be.feysdigitalservices.immofds.dto.response.CursorPageResponse;
+import be.feysdigitalservices.immofds.dto.response.LocationSuggestionResponse;
 import be.feysdigitalservices.immofds.dto.response.PageResponse;
 import be.feysdigitalservices.immofds.dto.response.PropertyDetailResponse;
+import be.feysdigitalservices.immofds.dto.response.PropertyFacetsResponse;
+import be.feysdigitalservices.immofds.dto.response.PropertyMapResponse;
 import be.feysdigitalservices.immofds.dto.response.PropertySummaryResponse;
+import be.feysdigitalservices.immofds.event.PropertyChangedEvent;
 import be.feysdigitalservices.immofds.exception.InvalidOperationException;
 import be.feysdigitalservices.immofds.exception.ResourceNotFoundException;
 import be.feysdigitalservices.immofds.mapper.PropertyMapper;
+import be.feysdigitalservices.immofds.repository.PropertyImageRepository;
+import be.feysdigitalservices.immofds.repository.PropertyImageRef;
 import be.feysdigitalservices.immofds.repository.PropertyRepository;
+import be.feysdigitalservices.immofds.repository.PropertySummaryRow;
+import be.feysdigitalservices.immofds.search.PropertySearchIndex;
+import be.feysdigitalservices.immofds.specification.PropertyCursor;
 import be.feysdigitalservices.immofds.specification.PropertySpecification;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class PropertyService {
 
     private final PropertyRepository propertyRepository;
+    private final PropertyImageRepository imageRepository;
     private final PropertyMapper propertyMapper;
     private final ReferenceGeneratorService referenceGeneratorService;
+    private final PropertySearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    public PropertyService(PropertyRepository propertyRepository, PropertyMapper propertyMapper,
-                           ReferenceGeneratorService referenceGeneratorService) {
+    public PropertyService(PropertyRepository propertyRepository, PropertyImageRepository imageRepository,
+                           PropertyMapper propertyMapper, ReferenceGeneratorService referenceGeneratorService,
+                           PropertySearchIndex searchIndex, ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager) {
         this.propertyRepository = propertyRepository;
+        this.imageRepository = imageRepository;
         this.propertyMapper = propertyMapper;
         this.referenceGeneratorService = referenceGeneratorService;
+        this.searchIndex = searchIndex;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     public PageResponse<PropertySummaryResponse> searchPublicProperties(PropertySearchCriteria criteria, Pageable pageable) {
-        Specification<Property> spec = buildPublicSpecification(criteria);
-        Page<Property> page = propertyRepository.findAll(spec, pageable);
-        return toPageResponse(page.map(propertyMapper::toSummaryResponse));
+        if (pageable.getSort().getOrderFor(PropertySearchIndex.DISTANCE_SORT) != null && criteria.near() == null) {
+            throw new InvalidOperationException("Le tri par distance nécessite le paramètre near");
+        }
+        Optional<PropertySearchIndex.Result> indexed = searchIndex.search(criteria, pageable);
+        if (indexed.isPresent()) {
+            return toSummaryPage(loadIndexedPage(indexed.get(), pageable));
+        }
+        if (PropertySearchIndex.isTextQuery(criteria.q())) {
+            throw new InvalidOperationException("Tri non supporté pour une recherche textuelle : " + pageable.getSort());
+        }
+        Specification<Property> spec = PropertySpecification.publicSearch(criteria);
+        return toSummaryPage(propertyRepository.findSummaries(spec, pageable));
+    }
+
+    public CursorPageResponse<PropertySummaryResponse> scrollPublicProperties(PropertySearchCriteria criteria,
+                                                                              String cursor, int size,
+                                                                              Sort.Order order, boolean includeTotal) {
+        if (PropertySearchIndex.isTextQuery(criteria.q())) {
+            return scrollByText(criteria, cursor, size, order, includeTotal);
+        }
+        Specification<Property> spec = PropertySpecification.publicSearch(criteria);
+        Long total = includeTotal
+                ? searchIndex.count(criteria).orElseGet(() -> propertyRepository.count(spec))
+                : null;
+        return scroll(spec, cursor, size, order, total);
+    }
+
+    public PropertyFacetsResponse getPublicFacets(PropertySearchCriteria criteria) {
+        return searchIndex.facets(criteria);
+    }
+
+    // answered from memory: no connection is borrowed unless the index still has to be loaded
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<LocationSuggestionResponse> suggestLocations(String query, Province province, int limit) {
+        return searchIndex.suggestLocations(query, province, limit);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PropertyMapResponse getPublicMap(PropertySearchCriteria criteria, int zoom) {
+        if (criteria.bounds() == null) {
+            throw new InvalidOperationException("La carte nécessite le paramètre bbox");
+        }
+        if (zoom < 0 || zoom > PropertySearchIndex.MAX_MAP_ZOOM) {
+            throw new InvalidOperationException(
+                    "Le niveau de zoom doit être compris entre 0 et " + PropertySearchIndex.MAX_MAP_ZOOM);
+        }
+        return searchIndex.map(criteria, zoom);
     }
 
     public PropertyDetailResponse getPublicPropertyByReference(String reference) {
@@ -47,9 +127,16 @@ public class PropertyService {
     }
 
     public PageResponse<PropertySummaryResponse> searchAdminProperties(PropertySearchCriteria criteria, Pageable pageable) {
-        Specification<Property> spec = buildAdminSpecification(criteria);
-        Page<Property> page = propertyRepository.findAll(spec, pageable);
-        return toPageResponse(page.map(propertyMapper::toSummaryResponse));
+        Specification<Property> spec = PropertySpecification.adminSearch(criteria);
+        return toSummaryPage(propertyRepository.findSummaries(spec, pageable));
+    }
+
+    public CursorPageResponse<PropertySummaryResponse> scrollAdminProperties(PropertySearchCriteria criteria,
+                                                                             String cursor, int size,
+                                                                             Sort.Order order, boolean includeTotal) {
+        Specification<Property> spec = PropertySpecification.adminSearch(criteria);
+        Long total = includeTotal ? propertyRepository.count(spec) : null;
+        return scroll(spec, cursor, size, order, total);
     }
 
     public PropertyDetailResponse getAdminPropertyByReference(String reference) {
@@ -57,13 +144,21 @@ public class PropertyService {
         return propertyMapper.toDetailResponse(property);
     }
 
-    @Transactional
+    /**
+     * The reference is generated before the transaction opens: reserving a new block of references
+     * needs a connection of its own, which must not be awaited while holding one.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PropertyDetailResponse createProperty(PropertyCreateRequest request) {
-        Property property = propertyMapper.toEntity(request);
-        property.setReference(referenceGeneratorService.generateReference());
-        property.setStatus(PropertyStatus.DRAFT);
-        Property saved = propertyRepository.save(property);
-        return propertyMapper.toDetailResponse(saved);
+        String reference = referenceGeneratorService.generateReference();
+        return transactionTemplate.execute(status -> {
+            Property property = propertyMapper.toEntity(request);
+            property.setReference(reference);
+            property.setStatus(PropertyStatus.DRAFT);
+            Property saved = propertyRepository.save(property);
+            eventPublisher.publishEvent(new PropertyChangedEvent(saved));
+            return propertyMapper.toDetailResponse(saved);
+        });
     }
 
     @Transactional
@@ -95,6 +190,7 @@ public class PropertyService {
         property.setLatitude(request.latitude());
         property.setLongitude(request.longitude());
         Property saved = propertyRepository.save(property);
+        eventPublisher.publishEvent(new PropertyChangedEvent(saved));
         return propertyMapper.toDetailResponse(saved);
     }
 
@@ -104,6 +200,7 @@ public class PropertyService {
         validateStatusTransition(property.getStatus(), newStatus);
         property.setStatus(newStatus);
         Property saved = propertyRepository.save(property);
+        eventPublisher.publishEvent(new PropertyChangedEvent(saved));
         return propertyMapper.toDetailResponse(saved);
     }
 
@@ -111,7 +208,8 @@ public class PropertyService {
     public void deleteProperty(String reference) {
         Property property = findByReference(reference);
         property.setStatus(PropertyStatus.ARCHIVED);
-        propertyRepository.save(property);
+        Property saved = propertyRepository.save(property);
+        eventPublisher.publishEvent(new PropertyChangedEvent(saved));
     }
 
     public Property findByReference(String reference) {
@@ -119,37 +217,81 @@ public class PropertyService {
                 .orElseThrow(() -> new ResourceNotFoundException("Bien", "référence", reference));
     }
 
-    private Specification<Property> buildPublicSpecification(PropertySearchCriteria criteria) {
-        return Specification.where(PropertySpecification.hasStatus(PropertyStatus.PUBLISHED))
-                .and(PropertySpecification.hasPropertyType(criteria.propertyType()))
-                .and(PropertySpecification.hasTransactionType(criteria.transactionType()))
-                .and(PropertySpecification.hasProvince(criteria.province()))
-                .and(PropertySpecification.hasCityLike(criteria.city()))
-                .and(PropertySpecification.hasPriceGreaterThanOrEqual(criteria.minPrice()))
-                .and(PropertySpecification.hasPriceLessThanOrEqual(criteria.maxPrice()))
-                .and(PropertySpecification.hasSurfaceGreaterThanOrEqual(criteria.minSurface()))
-                .and(PropertySpecification.hasSurfaceLessThanOrEqual(criteria.maxSurface()))
-                .and(PropertySpecification.hasMinBedrooms(criteria.minBedrooms()))
-                .and(PropertySpecification.hasEnergyRating(criteria.energyRating()))
-                .and(PropertySpecification.hasGarden(criteria.garden()))
-                .and(PropertySpecification.hasGarage(criteria.garage()))
-                .and(PropertySpecification.hasTerrace(criteria.terrace()))
-                .and(PropertySpecification.hasBasement(criteria.basement()))
-                .and(PropertySpecification.hasElevator(criteria.elevator()))
-                .and(PropertySpecification.hasFurnished(criteria.furnished()));
-    }
-
-    private Specification<Property> buildAdminSpecification(PropertySearchCriteria criteria) {
-        return Specification.where(PropertySpecification.hasPropertyType(criteria.propertyType()))
-                .and(PropertySpecification.hasTransactionType(criteria.transactionType()))
-                .and(PropertySpecification.hasProvince(criteria.province()))
-                .and(PropertySpecification.hasCityLike(criteria.city()))
-                .and(PropertySpecification.hasPriceGreaterThanOrEqual(criteria.minPrice()))
-                .and(PropertySpecification.hasPriceLessThanOrEqual(criteria.maxPrice()))
-                .and(PropertySpecification.hasSurfaceGreaterThanOrEqual(criteria.minSurface()))
-                .and(PropertySpecification.hasSurfaceLessThanOrEqual(criteria.maxSurface()))
-                .and(PropertySpecification.hasMinBedrooms(criteria.minBedrooms()))
-                .and(PropertySpecification.hasEnergyRating(criteria.energyRating()));
+    private CursorPageResponse<PropertySummaryResponse> scroll(Specification<Property> spec, String cursor, int size,
+                                                               Sort.Order order, Long total) {
+        PropertyCursor position = scrollPosition(cursor, size, order);
+        Specification<Property> keyset = position != null ? spec.and(position.toSpecification()) : spec;
+
+        Sort sort = Sort.by(order, new Sort.Order(order.getDirection(), "id"));
+        List<PropertySummaryRow> rows = propertyRepository.findSummaries(keyset, sort, Limit.of(size + 1));
+        return toCursorPage(rows, rows.size() <= size, size, order, total);
+    }
+
+    /**
+     * The ids matching a text query can be most of the catalogue: the keyset page is taken from the
+     * search index, and only its rows are read from the database.
+     */
+    private CursorPageResponse<PropertySummaryResponse> scrollByText(PropertySearchCriteria criteria, String cursor,
+                                                                     int size, Sort.Order order, boolean includeTotal) {
+        PropertyCursor position = scrollPosition(cursor, size, order);
+        List<Long> ids = searchIndex.scroll(criteria, order,
+                        position != null ? position.key() : null, position != null ? position.id() : null, size + 1)
+                .orElseThrow(() -> PropertyCursor.unsupported(order.getProperty()));
+        Long total = includeTotal ? searchIndex.count(criteria).orElseThrow() : null;
+        return toCursorPage(loadPublishedRows(ids), ids.size() <= size, size, order, total);
+    }
+
+    private static PropertyCursor scrollPosition(String cursor, int size, Sort.Order order) {
+        if (size < 1) {
+            throw new InvalidOperationException("La taille de page doit être supérieure à zéro");
+        }
+        if (!PropertyCursor.supports(order.getProperty())) {
+            throw PropertyCursor.unsupported(order.getProperty());
+        }
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        PropertyCursor position = PropertyCursor.decode(cursor);
+        if (!position.matches(order)) {
+            throw new InvalidOperationException("Le curseur ne correspond pas au tri demandé");
+        }
+        return position;
+    }
+
+    private CursorPageResponse<PropertySummaryResponse> toCursorPage(List<PropertySummaryRow> rows, boolean last,
+                                                                     int size, Sort.Order order, Long total) {
+        List<PropertySummaryRow> content = rows.size() <= size ? rows : rows.subList(0, size);
+        String nextCursor = last || content.isEmpty()
+                ? null
+                : PropertyCursor.after(content.get(content.size() - 1), order).encode();
+
+        return new CursorPageResponse<>(
+                toSummaries(content),
+                content.size(),
+                nextCursor,
+                last,
+                total
+        );
+    }
+
+    private Page<PropertySummaryRow> loadIndexedPage(PropertySearchIndex.Result result, Pageable pageable) {
+        return new PageImpl<>(loadPublishedRows(result.ids()), pageable, result.totalElements());
+    }
+
+    /** Rows of one page of ids found by the search index, in the same order. */
+    private List<PropertySummaryRow> loadPublishedRows(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Specification<Property> spec = Specification.where(PropertySpecification.hasIdIn(ids))
+                .and(PropertySpecification.hasStatus(PropertyStatus.PUBLISHED));
+        Map<Long, PropertySummaryRow> byId = propertyRepository.findSummaries(spec, Sort.unsorted(), Limit.unlimited())
+                .stream()
+                .collect(Collectors.toMap(PropertySummaryRow::id, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     private void validateStatusTransition(PropertyStatus current, PropertyStatus target) {
@@ -165,6 +307,28 @@ public class PropertyService {
         }
     }
 
+    private PageResponse<PropertySummaryResponse> toSummaryPage(Page<PropertySummaryRow> page) {
+        return toPageResponse(new PageImpl<>(toSummaries(page.getContent()), page.getPageable(), page.getTotalElements()));
+    }
+
+    /**
+     * Resolves the card image of the whole page in one query instead of initialising each
+     * property's image collection.
+     */
+    private List<PropertySummaryResponse> toSummaries(List<PropertySummaryRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Long> primaryImageIds = new HashMap<>();
+        for (PropertyImageRef ref : imageRepository.findImageRefsByPropertyIds(
+                rows.stream().map(PropertySummaryRow::id).toList())) {
+            primaryImageIds.putIfAbsent(ref.propertyId(), ref.imageId());
+        }
+        return rows.stream()
+                .map(row -> propertyMapper.toSummaryResponse(row, primaryImageIds.get(row.id())))
+                .toList();
+    }
+
     private <T> PageResponse<T> toPageResponse(Page<T> page) {
         return new PageResponse<>(
                 page.getContent(),
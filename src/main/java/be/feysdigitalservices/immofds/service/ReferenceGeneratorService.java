@@ -1,21 +1,106 @@
 package be.feysdigitalservices.immofds.service;
 
-import be.feysdigitalservices.immofds.repository.PropertyRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Year;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Hands out {@code IMM-YYYY-NNNNN} references from blocks reserved in
+ * {@code property_reference_counters}: one upsert per {@link #BLOCK_SIZE} references, numbering
+ * restarts at 1 each year. A block is committed on its own, so a rolled-back creation never
+ * gives its numbers back to another instance; numbers left in a block at shutdown are skipped.
+ * <p>
+ * Must be called outside any transaction: the reservation takes its own connection, and a caller
+ * already holding one could wait for the pool forever once every connection belongs to such a
+ * caller. Numbers are taken without locking; threads that find the block exhausted at the same
+ * time each reserve one, and the numbers left in the blocks that are not kept are skipped.
+ */
 @Service
 public class ReferenceGeneratorService {
 
-    private final PropertyRepository propertyRepository;
+    static final int BLOCK_SIZE = 50;
 
-    public ReferenceGeneratorService(PropertyRepository propertyRepository) {
-        this.propertyRepository = propertyRepository;
+    private static final String RESERVE_BLOCK = """
+            INSERT INTO property_reference_counters (reference_year, next_value) VALUES (?, 1 + ?)
+            ON CONFLICT (reference_year)
+            DO UPDATE SET next_value = property_reference_counters.next_value + EXCLUDED.next_value - 1
+            RETURNING next_value""";
+
+    private record Block(int year, AtomicLong next, long end) {
+
+        long take() {
+            return next.getAndIncrement();
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final AtomicReference<Block> current = new AtomicReference<>(new Block(0, new AtomicLong(), 0));
+
+    public ReferenceGeneratorService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     public String generateReference() {
-        long nextId = propertyRepository.findMaxId() + 1;
-        return String.format("IMM-%d-%05d", Year.now().getValue(), nextId);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("La référence doit être générée hors transaction");
+        }
+        int year = Year.now().getValue();
+        Block block = current.get();
+        if (block.year() == year) {
+            long number = block.take();
+            if (number < block.end()) {
+                return format(year, number);
+            }
+        }
+        Block reserved = reserveBlock(year);
+        long number = reserved.take();
+        current.compareAndSet(block, reserved);
+        return format(year, number);
+    }
+
+    private Block reserveBlock(int year) {
+        Long end = requiresNew.execute(status ->
+                jdbcTemplate.queryForObject(RESERVE_BLOCK, Long.class, year, BLOCK_SIZE));
+        return new Block(year, new AtomicLong(end - BLOCK_SIZE), end);
+    }
+
+    /**
+     * Same output as {@code String.format("IMM-%d-%05d", year, number)}, written straight into a
+     * char array.
+     */
+    static String format(int year, long number) {
+        int digits = Math.max(5, countDigits(number));
+        char[] chars = new char[9 + digits];
+        chars[0] = 'I';
+        chars[1] = 'M';
+        chars[2] = 'M';
+        chars[3] = '-';
+        for (int i = 7, y = year; i >= 4; i--, y /= 10) {
+            chars[i] = (char) ('0' + y % 10);
+        }
+        chars[8] = '-';
+        for (int i = chars.length - 1; i >= 9; i--, number /= 10) {
+            chars[i] = (char) ('0' + number % 10);
+        }
+        return new String(chars);
+    }
+
+    private static int countDigits(long number) {
+        int digits = 1;
+        while (number >= 10) {
+            number /= 10;
+            digits++;
+        }
+        return digits;
     }
 }
@@ -0,0 +1,42 @@
+package be.feysdigitalservices.immofds.service;
+
+import be.feysdigitalservices.immofds.repository.RefreshTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Deletes expired refresh tokens in small batches, each in its own transaction, so the purge never
+ * holds long locks on {@code refresh_tokens}.
+ */
+@Component
+public class RefreshTokenPurgeJob {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenPurgeJob.class);
+
+    static final int BATCH_SIZE = 1000;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    public RefreshTokenPurgeJob(RefreshTokenRepository refreshTokenRepository) {
+        this.refreshTokenRepository = refreshTokenRepository;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-purge-interval:PT1H}")
+    public int purgeExpired() {
+        Instant now = Instant.now();
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteExpiredBatch(now, BATCH_SIZE);
+            purged += deleted;
+        } while (deleted == BATCH_SIZE);
+        if (purged > 0) {
+            log.info("{} refresh token(s) expiré(s) supprimé(s)", purged);
+        }
+        return purged;
+    }
+}
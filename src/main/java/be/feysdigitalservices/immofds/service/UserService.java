@@ -5,10 +5,12 @@ import be.feysdigitalservices.immofds.dto.request.UserCreateRequest;
 import be.feysdigitalservices.immofds.dto.request.UserUpdateRequest;
 import be.feysdigitalservices.immofds.dto.response.PageResponse;
 import be.feysdigitalservices.immofds.dto.response.UserResponse;
+import be.feysdigitalservices.immofds.event.UserTokenVersionChangedEvent;
 import be.feysdigitalservices.immofds.exception.DuplicateResourceException;
 import be.feysdigitalservices.immofds.exception.ResourceNotFoundException;
 import be.feysdigitalservices.immofds.mapper.UserMapper;
 import be.feysdigitalservices.immofds.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -22,11 +24,14 @@ public class UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserService(UserRepository userRepository, UserMapper userMapper, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, UserMapper userMapper, PasswordEncoder passwordEncoder,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     public PageResponse<UserResponse> getAllUsers(Pageable pageable) {
@@ -48,6 +53,7 @@ public class UserService {
         user.setPassword(passwordEncoder.encode(request.password()));
         user.setActive(true);
         User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserTokenVersionChangedEvent(saved.getId(), saved.getTokenVersion()));
         return userMapper.toResponse(saved);
     }
 
@@ -57,12 +63,18 @@ public class UserService {
         if (!user.getEmail().equals(request.email()) && userRepository.existsByEmail(request.email())) {
             throw new DuplicateResourceException("Un utilisateur avec cet email existe déjà");
         }
+        // Les JWT portent l'email, le rôle et l'état actif : un changement invalide ceux déjà émis
+        if (!user.getEmail().equals(request.email()) || user.getRole() != request.role()
+                || user.isActive() != request.active()) {
+            user.setTokenVersion(user.getTokenVersion() + 1);
+        }
         user.setEmail(request.email());
         user.setFirstName(request.firstName());
         user.setLastName(request.lastName());
         user.setRole(request.role());
         user.setActive(request.active());
         User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserTokenVersionChangedEvent(saved.getId(), saved.getTokenVersion()));
         return userMapper.toResponse(saved);
     }
 
@@ -70,6 +82,7 @@ public class UserService {
     public void deleteUser(Long id) {
         User user = findById(id);
         userRepository.delete(user);
+        eventPublisher.publishEvent(new UserTokenVersionChangedEvent(id, null));
     }
 
     private User findById(Long id) {
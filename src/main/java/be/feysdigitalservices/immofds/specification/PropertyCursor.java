@@ -0,0 +1,96 @@
+package be.feysdigitalservices.immofds.specification;
+
+import be.feysdigitalservices.immofds.domain.entity.Property;
+import be.feysdigitalservices.immofds.exception.InvalidOperationException;
+import be.feysdigitalservices.immofds.repository.PropertySummaryRow;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * Opaque continuation token for keyset pagination: the sort key and the id of the last row returned.
+ * Only non-nullable columns can be used as sort key.
+ */
+public record PropertyCursor(String sortBy, boolean ascending, String value, long id) {
+
+    private static final Set<String> SORTABLE = Set.of("createdAt", "updatedAt", "price");
+    private static final String SEPARATOR = "|";
+
+    public static boolean supports(String sortBy) {
+        return SORTABLE.contains(sortBy);
+    }
+
+    public static PropertyCursor after(PropertySummaryRow last, Sort.Order order) {
+        String value = switch (order.getProperty()) {
+            case "createdAt" -> last.createdAt().toString();
+            case "updatedAt" -> last.updatedAt().toString();
+            case "price" -> last.price().toPlainString();
+            default -> throw unsupported(order.getProperty());
+        };
+        return new PropertyCursor(order.getProperty(), order.isAscending(), value, last.id());
+    }
+
+    public static PropertyCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            if (parts.length != 4 || !supports(parts[0])) {
+                throw invalid();
+            }
+            return new PropertyCursor(parts[0], "asc".equals(parts[1]), parts[2], Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, sortBy, ascending ? "asc" : "desc", value, Long.toString(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean matches(Sort.Order order) {
+        return sortBy.equals(order.getProperty()) && ascending == order.isAscending();
+    }
+
+    /** Sort key of the last row returned, typed like the entity attribute. */
+    public Comparable<?> key() {
+        try {
+            return switch (sortBy) {
+                case "createdAt", "updatedAt" -> LocalDateTime.parse(value);
+                case "price" -> new BigDecimal(value);
+                default -> throw unsupported(sortBy);
+            };
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw invalid();
+        }
+    }
+
+    public Specification<Property> toSpecification() {
+        try {
+            return switch (sortBy) {
+                case "createdAt", "updatedAt" ->
+                        PropertySpecification.isAfterKey(sortBy, LocalDateTime.parse(value), id, ascending);
+                case "price" -> PropertySpecification.isAfterKey(sortBy, new BigDecimal(value), id, ascending);
+                default -> throw unsupported(sortBy);
+            };
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw invalid();
+        }
+    }
+
+    public static InvalidOperationException unsupported(String sortBy) {
+        return new InvalidOperationException(
+                String.format("Tri non supporté en pagination par curseur : %s (valeurs possibles : %s)",
+                        sortBy, String.join(", ", SORTABLE)));
+    }
+
+    private static InvalidOperationException invalid() {
+        return new InvalidOperationException("Curseur de pagination invalide");
+    }
+}
@@ -2,14 +2,58 @@ package be.feysdigitalservices.immofds.specification;
 
 import be.feysdigitalservices.immofds.domain.entity.Property;
 import be.feysdigitalservices.immofds.domain.enums.*;
+import be.feysdigitalservices.immofds.dto.request.BoundingBox;
+import be.feysdigitalservices.immofds.dto.request.GeoPoint;
+import be.feysdigitalservices.immofds.dto.request.PropertySearchCriteria;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 
 public final class PropertySpecification {
 
     private PropertySpecification() {}
 
+    /** Published properties matching every public search filter, location included. */
+    public static Specification<Property> publicSearch(PropertySearchCriteria criteria) {
+        return Specification.where(hasStatus(PropertyStatus.PUBLISHED))
+                .and(hasPropertyType(criteria.propertyType()))
+                .and(hasTransactionType(criteria.transactionType()))
+                .and(hasProvince(criteria.province()))
+                .and(hasCityLike(criteria.city()))
+                .and(hasPriceGreaterThanOrEqual(criteria.minPrice()))
+                .and(hasPriceLessThanOrEqual(criteria.maxPrice()))
+                .and(hasSurfaceGreaterThanOrEqual(criteria.minSurface()))
+                .and(hasSurfaceLessThanOrEqual(criteria.maxSurface()))
+                .and(hasMinBedrooms(criteria.minBedrooms()))
+                .and(hasEnergyRating(criteria.energyRating()))
+                .and(hasGarden(criteria.garden()))
+                .and(hasGarage(criteria.garage()))
+                .and(hasTerrace(criteria.terrace()))
+                .and(hasBasement(criteria.basement()))
+                .and(hasElevator(criteria.elevator()))
+                .and(hasFurnished(criteria.furnished()))
+                .and(isWithinBounds(criteria.bounds()))
+                .and(isWithinRadius(criteria.near(), criteria.radiusKm()));
+    }
+
+    /** Properties of any status matching the filters of the admin search. */
+    public static Specification<Property> adminSearch(PropertySearchCriteria criteria) {
+        return Specification.where(hasPropertyType(criteria.propertyType()))
+                .and(hasTransactionType(criteria.transactionType()))
+                .and(hasProvince(criteria.province()))
+                .and(hasCityLike(criteria.city()))
+                .and(hasPriceGreaterThanOrEqual(criteria.minPrice()))
+                .and(hasPriceLessThanOrEqual(criteria.maxPrice()))
+                .and(hasSurfaceGreaterThanOrEqual(criteria.minSurface()))
+                .and(hasSurfaceLessThanOrEqual(criteria.maxSurface()))
+                .and(hasMinBedrooms(criteria.minBedrooms()))
+                .and(hasEnergyRating(criteria.energyRating()));
+    }
+
     public static Specification<Property> hasStatus(PropertyStatus status) {
         return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
     }
@@ -26,10 +70,12 @@ public final class PropertySpecification {
         return (root, query, cb) -> province == null ? null : cb.equal(root.get("province"), province);
     }
 
+    /** Ignores case and accents, like the city filter of {@code PropertySearchIndex}. */
     public static Specification<Property> hasCityLike(String city) {
         return (root, query, cb) -> city == null || city.isBlank()
                 ? null
-                : cb.like(cb.lower(root.get("city")), "%" + city.toLowerCase() + "%");
+                : cb.like(cb.lower(cb.function("unaccent", String.class, root.get("city"))),
+                        cb.lower(cb.function("unaccent", String.class, cb.literal("%" + city + "%"))));
     }
 
     public static Specification<Property> hasPriceGreaterThanOrEqual(BigDecimal minPrice) {
@@ -89,4 +135,47 @@ public final class PropertySpecification {
     public static Specification<Property> hasFurnished(Boolean furnished) {
         return (root, query, cb) -> furnished == null ? null : cb.equal(root.get("furnished"), furnished);
     }
+
+    public static Specification<Property> hasIdIn(Collection<Long> ids) {
+        return (root, query, cb) -> {
+            if (ids == null) {
+                return null;
+            }
+            return ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids);
+        };
+    }
+
+    public static Specification<Property> isWithinBounds(BoundingBox bounds) {
+        return (root, query, cb) -> bounds == null
+                ? null
+                : cb.and(cb.between(root.get("latitude"), bounds.south(), bounds.north()),
+                        cb.between(root.get("longitude"), bounds.west(), bounds.east()));
+    }
+
+    /** Same equirectangular distance as {@link GeoPoint#distanceKm}, so the index and the database agree. */
+    public static Specification<Property> isWithinRadius(GeoPoint center, Double radiusKm) {
+        return (root, query, cb) -> {
+            if (center == null || radiusKm == null) {
+                return null;
+            }
+            Expression<Double> dy = cb.prod(cb.diff(root.<Double>get("latitude"), center.latitude()),
+                    GeoPoint.KM_PER_DEGREE);
+            Expression<Double> dx = cb.prod(cb.diff(root.<Double>get("longitude"), center.longitude()),
+                    center.kmPerDegreeOfLongitude());
+            return cb.and(isWithinBounds(center.boundsWithin(radiusKm)).toPredicate(root, query, cb),
+                    cb.le(cb.sum(cb.prod(dy, dy), cb.prod(dx, dx)), radiusKm * radiusKm));
+        };
+    }
+
+    public static <T extends Comparable<? super T>> Specification<Property> isAfterKey(String attribute, T value,
+                                                                                         Long id, boolean ascending) {
+        return (root, query, cb) -> {
+            Path<T> key = root.get(attribute);
+            Path<Long> rowId = root.get("id");
+            Predicate beyond = ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+            Predicate sameKeyBeyondId = cb.and(cb.equal(key, value),
+                    ascending ? cb.greaterThan(rowId, id) : cb.lessThan(rowId, id));
+            return cb.or(beyond, sameKeyBeyondId);
+        };
+    }
 }
@@ -0,0 +1,130 @@
+package be.feysdigitalservices.immofds.storage;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Legacy image still held in {@code property_images.data}, read in fixed-size chunks with
+ * {@code substring} so that neither the driver nor the heap ever holds the whole value. Skipping
+ * (used for range requests) moves the offset without reading.
+ */
+public class DatabaseImageResource extends AbstractResource {
+
+    static final int CHUNK_SIZE = 256 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long imageId;
+    private Long length;
+
+    public DatabaseImageResource(JdbcTemplate jdbcTemplate, long imageId, Long length) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.imageId = imageId;
+        this.length = length;
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() throws IOException {
+        if (length == null) {
+            List<Long> lengths = jdbcTemplate.queryForList(
+                    "SELECT octet_length(data) FROM property_images WHERE id = ?", Long.class, imageId);
+            if (lengths.isEmpty() || lengths.getFirst() == null) {
+                throw new FileNotFoundException(getDescription() + " introuvable");
+            }
+            length = lengths.getFirst();
+        }
+        return length;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return new ChunkedInputStream(contentLength());
+    }
+
+    @Override
+    public String getDescription() {
+        return "Image " + imageId + " [property_images.data]";
+    }
+
+    private class ChunkedInputStream extends InputStream {
+
+        private final long end;
+        private long position;
+        private byte[] chunk = new byte[0];
+        private int chunkOffset;
+
+        ChunkedInputStream(long end) {
+            this.end = end;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            position++;
+            return chunk[chunkOffset++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int count = Math.min(len, chunk.length - chunkOffset);
+            System.arraycopy(chunk, chunkOffset, buffer, offset, count);
+            chunkOffset += count;
+            position += count;
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = Math.max(0, Math.min(n, end - position));
+            long buffered = chunk.length - chunkOffset;
+            if (skipped < buffered) {
+                chunkOffset += (int) skipped;
+            } else {
+                chunk = new byte[0];
+                chunkOffset = 0;
+            }
+            position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return chunk.length - chunkOffset;
+        }
+
+        private boolean fill() throws IOException {
+            if (chunkOffset < chunk.length) {
+                return true;
+            }
+            if (position >= end) {
+                return false;
+            }
+            List<byte[]> rows = jdbcTemplate.queryForList(
+                    "SELECT substring(data FROM ? FOR ?) FROM property_images WHERE id = ?",
+                    byte[].class, Math.toIntExact(position + 1), CHUNK_SIZE, imageId);
+            if (rows.isEmpty() || rows.getFirst() == null || rows.getFirst().length == 0) {
+                throw new IOException(getDescription() + " supprimée pendant la lecture");
+            }
+            chunk = rows.getFirst();
+            chunkOffset = 0;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package be.feysdigitalservices.immofds.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Blob store for image bytes. Keys are the SHA-256 of the content, so storing the same bytes twice
+ * yields the same key and a single copy.
+ */
+public interface ImageStorage {
+
+    StoredImage store(InputStream content) throws IOException;
+
+    Resource load(String key);
+
+    /**
+     * Deletes the blob unless it was stored or re-stored at or after {@code instant}. Returns whether
+     * it was deleted.
+     */
+    boolean deleteIfOlderThan(String key, Instant instant) throws IOException;
+
+    List<String> listKeysOlderThan(Instant instant) throws IOException;
+}
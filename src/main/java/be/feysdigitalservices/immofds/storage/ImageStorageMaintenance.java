@@ -0,0 +1,109 @@
+package be.feysdigitalservices.immofds.storage;
+
+import be.feysdigitalservices.immofds.config.ImageStorageConfig;
+import be.feysdigitalservices.immofds.repository.PropertyImageRepository;
+import be.feysdigitalservices.immofds.repository.PropertyImageVariantRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Moves legacy BYTEA image rows into the {@link ImageStorage} and removes blobs no row references
+ * anymore. Blobs are never deleted inline with their row: a rolled-back delete or a concurrent
+ * upload of the same content would otherwise lose bytes that are still referenced.
+ */
+@Component
+public class ImageStorageMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageStorageMaintenance.class);
+
+    private final ImageStorage imageStorage;
+    private final PropertyImageRepository imageRepository;
+    private final PropertyImageVariantRepository variantRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageStorageConfig config;
+
+    public ImageStorageMaintenance(ImageStorage imageStorage, PropertyImageRepository imageRepository,
+                                   PropertyImageVariantRepository variantRepository, JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate, ImageStorageConfig config) {
+        this.imageStorage = imageStorage;
+        this.imageRepository = imageRepository;
+        this.variantRepository = variantRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.config = config;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (config.migrateOnStartup()) {
+            migrateLegacyImages();
+        }
+    }
+
+    public int migrateLegacyImages() {
+        int migrated = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> migrateBatch());
+            migrated += batch;
+        } while (batch > 0);
+        log.info("{} image(s) migrée(s) vers le stockage d'images", migrated);
+        return migrated;
+    }
+
+    private int migrateBatch() {
+        List<Object[]> updates = new ArrayList<>();
+        jdbcTemplate.query(
+                "SELECT id, data FROM property_images WHERE storage_key IS NULL ORDER BY id LIMIT ? FOR UPDATE",
+                rs -> {
+                    try (InputStream data = rs.getBinaryStream("data")) {
+                        StoredImage stored = imageStorage.store(data);
+                        updates.add(new Object[]{stored.key(), stored.size(), rs.getLong("id")});
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Migration de l'image " + rs.getLong("id") + " impossible", e);
+                    }
+                },
+                Math.max(config.migrationBatchSize(), 1));
+        jdbcTemplate.batchUpdate(
+                "UPDATE property_images SET storage_key = ?, size_bytes = ?, data = NULL WHERE id = ?", updates);
+        return updates.size();
+    }
+
+    @Scheduled(fixedDelayString = "${image-storage.orphan-sweep-interval:PT6H}")
+    public void deleteOrphanBlobs() {
+        try {
+            Instant cutoff = Instant.now().minus(config.orphanGracePeriod());
+            List<String> candidates = imageStorage.listKeysOlderThan(cutoff);
+            Set<String> referenced = new HashSet<>(imageRepository.findAllStorageKeys());
+            referenced.addAll(variantRepository.findAllStorageKeys());
+            int deleted = 0;
+            for (String key : candidates) {
+                // Re-checked at deletion: a duplicate upload may have reused the blob since the listing
+                if (!referenced.contains(key) && imageStorage.deleteIfOlderThan(key, cutoff)) {
+                    deleted++;
+                }
+            }
+            if (deleted > 0) {
+                log.info("{} fichier(s) d'image orphelin(s) supprimé(s)", deleted);
+            }
+        } catch (IOException e) {
+            log.warn("Nettoyage des images orphelines impossible", e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package be.feysdigitalservices.immofds.storage;
+
+import be.feysdigitalservices.immofds.config.ImageStorageConfig;
+import be.feysdigitalservices.immofds.exception.ResourceNotFoundException;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Component
+public class LocalImageStorage implements ImageStorage {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("^[0-9a-f]{64}$");
+
+    private final Path root;
+    private final Path incoming;
+
+    public LocalImageStorage(ImageStorageConfig config) {
+        this.root = Path.of(config.directory()).toAbsolutePath().normalize();
+        this.incoming = root.resolve("incoming");
+        try {
+            Files.createDirectories(incoming);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible de créer le répertoire des images : " + root, e);
+        }
+    }
+
+    @Override
+    public StoredImage store(InputStream content) throws IOException {
+        Path temp = Files.createTempFile(incoming, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                size = content.transferTo(out);
+            }
+            String key = HexFormat.of().formatHex(digest.digest());
+            Path target = pathOf(key);
+            // Keeps a re-uploaded blob out of the orphan sweep until its row is committed.
+            if (touch(target)) {
+                Files.delete(temp);
+            } else {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    Files.deleteIfExists(temp);
+                }
+            }
+            return new StoredImage(key, size);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    @Override
+    public Resource load(String key) {
+        Path path = pathOf(key);
+        if (!Files.isRegularFile(path)) {
+            throw new ResourceNotFoundException("Contenu d'image", "clé", key);
+        }
+        return new FileSystemResource(path);
+    }
+
+    /**
+     * Moves the blob aside before checking its timestamp: an upload of the same content touches it
+     * before that (and the blob is put back), or finds it gone and stores its own copy.
+     */
+    @Override
+    public boolean deleteIfOlderThan(String key, Instant instant) throws IOException {
+        Path path = pathOf(key);
+        Path doomed = incoming.resolve(key + ".delete");
+        try {
+            Files.move(path, doomed, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        if (lastModified(doomed).isBefore(instant)) {
+            Files.delete(doomed);
+            return true;
+        }
+        Files.move(doomed, path, StandardCopyOption.ATOMIC_MOVE);
+        return false;
+    }
+
+    @Override
+    public List<String> listKeysOlderThan(Instant instant) throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files
+                    .filter(path -> !path.startsWith(incoming))
+                    .filter(Files::isRegularFile)
+                    .filter(path -> KEY_PATTERN.matcher(path.getFileName().toString()).matches())
+                    .filter(path -> lastModified(path).isBefore(instant))
+                    .map(path -> path.getFileName().toString())
+                    .toList();
+        }
+    }
+
+    private Path pathOf(String key) {
+        if (key == null || !KEY_PATTERN.matcher(key).matches()) {
+            throw new IllegalArgumentException("Clé de stockage invalide : " + key);
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    private static boolean touch(Path path) throws IOException {
+        try {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private static Instant lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant();
+        } catch (IOException e) {
+            return Instant.MAX;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
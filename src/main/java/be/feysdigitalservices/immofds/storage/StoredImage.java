@@ -0,0 +1,6 @@
+package be.feysdigitalservices.immofds.storage;
+
+public record StoredImage(
+        String key,
+        long size
+) {}
@@ -8,12 +8,22 @@ import java.util.regex.Pattern;
 public class BelgianPostalCodeValidator implements ConstraintValidator<BelgianPostalCode, String> {
 
     private static final Pattern BELGIAN_POSTAL_CODE_PATTERN = Pattern.compile("^[1-9]\\d{3}$");
+    private static final Pattern BELGIAN_POSTAL_CODE_PREFIX_PATTERN = Pattern.compile("^[1-9]\\d{0,3}$");
 
     @Override
     public boolean isValid(String value, ConstraintValidatorContext context) {
         if (value == null || value.isBlank()) {
             return true;
         }
-        return BELGIAN_POSTAL_CODE_PATTERN.matcher(value).matches();
+        return isBelgianPostalCode(value);
+    }
+
+    public static boolean isBelgianPostalCode(String value) {
+        return value != null && BELGIAN_POSTAL_CODE_PATTERN.matcher(value).matches();
+    }
+
+    /** Whether the value can be the start of a Belgian postal code, as typed in a search box. */
+    public static boolean isBelgianPostalCodePrefix(String value) {
+        return value != null && BELGIAN_POSTAL_CODE_PREFIX_PATTERN.matcher(value).matches();
     }
 }
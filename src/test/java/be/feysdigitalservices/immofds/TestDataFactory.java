@@ -5,6 +5,7 @@ import be.feysdigitalservices.immofds.domain.entity.Property;
 import be.feysdigitalservices.immofds.domain.entity.User;
 import be.feysdigitalservices.immofds.domain.enums.*;
 import be.feysdigitalservices.immofds.dto.request.*;
+import be.feysdigitalservices.immofds.repository.PropertySummaryRow;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -46,6 +47,17 @@ public final class TestDataFactory {
         return property;
     }
 
+    public static PropertySummaryRow createPropertySummaryRow() {
+        return new PropertySummaryRow(
+                1L, "IMM-2026-00001", "Belle maison à Bruxelles",
+                PropertyType.HOUSE, TransactionType.SALE, PropertyStatus.PUBLISHED,
+                new BigDecimal("350000.00"), 150.0, 3, 2,
+                "Bruxelles", Province.BRUXELLES_CAPITALE, EnergyRating.B,
+                50.8503, 4.3517,
+                LocalDateTime.of(2026, 1, 15, 10, 30), LocalDateTime.of(2026, 2, 1, 8, 0)
+        );
+    }
+
     public static PropertyCreateRequest createPropertyRequest() {
         return new PropertyCreateRequest(
                 "Belle maison à Bruxelles",
@@ -3,6 +3,7 @@ package be.feysdigitalservices.immofds.controller;
 import be.feysdigitalservices.immofds.config.SecurityConfig;
 import be.feysdigitalservices.immofds.controller.pub.PublicContactController;
 import be.feysdigitalservices.immofds.dto.response.ContactRequestResponse;
+import be.feysdigitalservices.immofds.metrics.SqlStatementMetricsFilter;
 import be.feysdigitalservices.immofds.security.JwtAuthenticationFilter;
 import be.feysdigitalservices.immofds.service.ContactRequestService;
 import org.junit.jupiter.api.Test;
@@ -23,7 +24,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(controllers = PublicContactController.class,
         excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
-                classes = {SecurityConfig.class, JwtAuthenticationFilter.class}))
+                classes = {SecurityConfig.class, JwtAuthenticationFilter.class, SqlStatementMetricsFilter.class}))
 @AutoConfigureMockMvc(addFilters = false)
 class PublicContactControllerTest {
 
@@ -2,11 +2,23 @@ package be.feysdigitalservices.immofds.controller;
 
 import be.feysdigitalservices.immofds.config.SecurityConfig;
 import be.feysdigitalservices.immofds.controller.pub.PublicPropertyController;
+import be.feysdigitalservices.immofds.domain.enums.ImageSize;
+import be.feysdigitalservices.immofds.domain.enums.Province;
+import be.feysdigitalservices.immofds.dto.response.FacetCountResponse;
+import be.feysdigitalservices.immofds.dto.response.LocationSuggestionResponse;
 import be.feysdigitalservices.immofds.dto.response.PageResponse;
 import be.feysdigitalservices.immofds.dto.response.PropertyDetailResponse;
+import be.feysdigitalservices.immofds.dto.response.PropertyClusterResponse;
+import be.feysdigitalservices.immofds.dto.response.PropertyFacetsResponse;
+import be.feysdigitalservices.immofds.dto.response.PropertyMapPointResponse;
+import be.feysdigitalservices.immofds.dto.response.PropertyMapResponse;
 import be.feysdigitalservices.immofds.dto.response.PropertySummaryResponse;
+import be.feysdigitalservices.immofds.metrics.SqlStatementMetricsFilter;
+import be.feysdigitalservices.immofds.repository.PropertyImageMetadata;
 import be.feysdigitalservices.immofds.security.JwtAuthenticationFilter;
+import be.feysdigitalservices.immofds.service.PropertyDetailCache;
 import be.feysdigitalservices.immofds.service.PropertyImageService;
+import be.feysdigitalservices.immofds.service.PropertySearchPageCache;
 import be.feysdigitalservices.immofds.service.PropertyService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,23 +26,30 @@ import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.json.JsonMapper;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = PublicPropertyController.class,
         excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
-                classes = {SecurityConfig.class, JwtAuthenticationFilter.class}))
+                classes = {SecurityConfig.class, JwtAuthenticationFilter.class, SqlStatementMetricsFilter.class}))
 @AutoConfigureMockMvc(addFilters = false)
 class PublicPropertyControllerTest {
 
+    private static final String IMAGE_KEY = "84d89877f0d4041efb6bf91a16f0248f2fd573e6af05c19f96bedb9f882f7882";
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -40,6 +59,15 @@ class PublicPropertyControllerTest {
     @MockitoBean
     private PropertyImageService propertyImageService;
 
+    @MockitoBean
+    private PropertySearchPageCache searchPageCache;
+
+    @MockitoBean
+    private PropertyDetailCache detailCache;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
     @Test
     void searchProperties_shouldReturn200() throws Exception {
         PropertySummaryResponse summary = new PropertySummaryResponse(
@@ -49,14 +77,82 @@ class PublicPropertyControllerTest {
         PageResponse<PropertySummaryResponse> pageResponse = new PageResponse<>(
                 List.of(summary), 0, 12, 1, 1, true);
 
-        when(propertyService.searchPublicProperties(any(), any())).thenReturn(pageResponse);
+        when(searchPageCache.get(any(), any())).thenReturn(new PropertySearchPageCache.SerializedPage(
+                jsonMapper.writeValueAsBytes(pageResponse), "W/\"page-1\""));
 
         mockMvc.perform(get("/api/v1/public/properties"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"page-1\""))
                 .andExpect(jsonPath("$.content[0].reference").value("IMM-2026-00001"))
                 .andExpect(jsonPath("$.totalElements").value(1));
     }
 
+    @Test
+    void searchProperties_withMatchingEtag_shouldReturn304() throws Exception {
+        when(searchPageCache.get(any(), any())).thenReturn(
+                new PropertySearchPageCache.SerializedPage("{}".getBytes(StandardCharsets.UTF_8), "W/\"page-1\""));
+
+        mockMvc.perform(get("/api/v1/public/properties").header(HttpHeaders.IF_NONE_MATCH, "W/\"page-1\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void searchProperties_withInvalidGeoParameters_shouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/public/properties").param("near", "50.85"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/public/properties").param("radiusKm", "5"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/public/properties").param("bbox", "4.4,50.8,4.3,50.9"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getFacets_shouldReturn200() throws Exception {
+        PropertyFacetsResponse facets = new PropertyFacetsResponse(
+                3, List.of(new FacetCountResponse("HOUSE", "Maison", 3)), List.of(), List.of(), List.of(),
+                List.of(new FacetCountResponse("garden", "Jardin", 2)), List.of(), List.of());
+
+        when(propertyService.getPublicFacets(any())).thenReturn(facets);
+
+        mockMvc.perform(get("/api/v1/public/properties/facets").param("propertyType", "HOUSE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.propertyTypes[0].count").value(3))
+                .andExpect(jsonPath("$.amenities[0].value").value("garden"));
+    }
+
+    @Test
+    void suggestLocations_shouldReturn200() throws Exception {
+        when(propertyService.suggestLocations("liege", Province.LIEGE, 10)).thenReturn(List.of(
+                new LocationSuggestionResponse("4000", "Liège", "LIEGE", "Liège", 4)));
+
+        mockMvc.perform(get("/api/v1/public/properties/locations").param("q", "liege").param("province", "LIEGE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].postalCode").value("4000"))
+                .andExpect(jsonPath("$[0].city").value("Liège"))
+                .andExpect(jsonPath("$[0].count").value(4));
+    }
+
+    @Test
+    void getMap_shouldReturn200() throws Exception {
+        PropertyMapResponse map = new PropertyMapResponse(4,
+                List.of(new PropertyClusterResponse(50.84, 4.36, 3,
+                        new BigDecimal("180000"), new BigDecimal("410000"))),
+                List.of(new PropertyMapPointResponse("IMM-2026-00004", 50.63, 5.58, new BigDecimal("250000"))));
+        when(propertyService.getPublicMap(any(), eq(8))).thenReturn(map);
+
+        mockMvc.perform(get("/api/v1/public/properties/map").param("bbox", "2.5,49.5,6.4,51.0").param("zoom", "8"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.clusters[0].count").value(3))
+                .andExpect(jsonPath("$.points[0].reference").value("IMM-2026-00004"));
+    }
+
+    @Test
+    void getMap_withoutViewport_shouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/public/properties/map").param("zoom", "8"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getPropertyByReference_shouldReturn200() throws Exception {
         PropertyDetailResponse detail = new PropertyDetailResponse(
@@ -66,14 +162,60 @@ class PublicPropertyControllerTest {
                 "Rue de la Loi", "42", "1000", "Bruxelles", "Bruxelles-Capitale",
                 50.8503, 4.3517, List.of(), "2026-01-01T00:00:00", "2026-01-01T00:00:00");
 
-        when(propertyService.getPublicPropertyByReference("IMM-2026-00001")).thenReturn(detail);
+        when(detailCache.get("IMM-2026-00001")).thenReturn(new PropertyDetailCache.SerializedDetail(
+                jsonMapper.writeValueAsBytes(detail), "W/\"detail-1\""));
 
         mockMvc.perform(get("/api/v1/public/properties/IMM-2026-00001"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"detail-1\""))
                 .andExpect(jsonPath("$.reference").value("IMM-2026-00001"))
                 .andExpect(jsonPath("$.title").value("Belle maison"));
     }
 
+    @Test
+    void getImage_shouldReturnContentWithEtag() throws Exception {
+        mockImage();
+
+        mockMvc.perform(get("/api/v1/public/properties/IMM-2026-00001/images/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + IMAGE_KEY + "\""))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(content().bytes("0123456789".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void getImage_shouldReturn304WhenEtagMatches() throws Exception {
+        mockImage();
+
+        mockMvc.perform(get("/api/v1/public/properties/IMM-2026-00001/images/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + IMAGE_KEY + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void getImage_shouldReturnRequestedRange() throws Exception {
+        mockImage();
+
+        mockMvc.perform(get("/api/v1/public/properties/IMM-2026-00001/images/1")
+                        .header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(content().bytes("2345".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void getImage_shouldServeRequestedSize() throws Exception {
+        PropertyImageMetadata card = new PropertyImageMetadata(1L, "photo.jpg", "image/jpeg", "ab".repeat(32), 3L);
+        when(propertyImageService.getImage(1L, ImageSize.CARD)).thenReturn(card);
+        when(propertyImageService.getImageContent(card)).thenReturn(new ByteArrayResource(new byte[]{1, 2, 3}));
+
+        mockMvc.perform(get("/api/v1/public/properties/IMM-2026-00001/images/1").param("size", "CARD"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + "ab".repeat(32) + "\""))
+                .andExpect(content().bytes(new byte[]{1, 2, 3}));
+    }
+
     @Test
     void getPropertyTypes_shouldReturn200() throws Exception {
         mockMvc.perform(get("/api/v1/public/properties/types"))
@@ -87,4 +229,11 @@ class PublicPropertyControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray());
     }
+
+    private void mockImage() {
+        PropertyImageMetadata image = new PropertyImageMetadata(1L, "photo.jpg", "image/jpeg", IMAGE_KEY, 10L);
+        when(propertyImageService.getImage(1L, null)).thenReturn(image);
+        when(propertyImageService.getImageContent(image))
+                .thenReturn(new ByteArrayResource("0123456789".getBytes(StandardCharsets.UTF_8)));
+    }
 }
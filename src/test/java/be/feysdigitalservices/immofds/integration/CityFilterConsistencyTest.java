@@ -0,0 +1,72 @@
+package be.feysdigitalservices.immofds.integration;
+
+import be.feysdigitalservices.immofds.TestDataFactory;
+import be.feysdigitalservices.immofds.domain.entity.Property;
+import be.feysdigitalservices.immofds.dto.request.PropertySearchCriteria;
+import be.feysdigitalservices.immofds.dto.response.PropertySummaryResponse;
+import be.feysdigitalservices.immofds.repository.PropertyRepository;
+import be.feysdigitalservices.immofds.search.PropertySearchIndex;
+import be.feysdigitalservices.immofds.service.PropertyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The city filter is answered by the search index for offset searches and by the database for
+ * {@code /scroll}: both must fold case and accents the same way.
+ */
+class CityFilterConsistencyTest extends IntegrationTestBase {
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private PropertySearchIndex searchIndex;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    private Property saved;
+
+    @BeforeEach
+    void setUp() {
+        Property property = TestDataFactory.createProperty();
+        property.setId(null);
+        property.setReference("IMM-2026-60001");
+        property.setCity("Liège");
+        saved = propertyRepository.save(property);
+        searchIndex.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        propertyRepository.delete(saved);
+        searchIndex.reload();
+    }
+
+    @Test
+    void cityFilter_shouldIgnoreAccentsOnIndexAndDatabasePaths() {
+        for (String city : List.of("liege", "LIÈGE", "iège")) {
+            PropertySearchCriteria criteria = new PropertySearchCriteria(
+                    null, null, null, city, null, null, null, null, null,
+                    null, null, null, null, null, null, null, null, null, null, null);
+
+            List<String> fromIndex = propertyService.searchPublicProperties(
+                            criteria, PageRequest.of(0, 12, Sort.by("createdAt").descending()))
+                    .content().stream().map(PropertySummaryResponse::reference).toList();
+            List<String> fromDatabase = propertyService.scrollPublicProperties(
+                            criteria, null, 12, Sort.Order.desc("createdAt"), false)
+                    .content().stream().map(PropertySummaryResponse::reference).toList();
+
+            assertThat(fromIndex).as("index, city=%s", city).contains("IMM-2026-60001");
+            assertThat(fromDatabase).as("database, city=%s", city).containsExactlyElementsOf(fromIndex);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package be.feysdigitalservices.immofds.integration;
+
+import be.feysdigitalservices.immofds.TestDataFactory;
+import be.feysdigitalservices.immofds.dto.response.PropertyDetailResponse;
+import be.feysdigitalservices.immofds.repository.PropertyRepository;
+import be.feysdigitalservices.immofds.service.PropertyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Creates more properties at once than the pool has connections (10), across more than one
+ * block of references, so that some creations reserve a block while every connection is taken.
+ */
+class ConcurrentPropertyCreationTest extends IntegrationTestBase {
+
+    private static final int THREADS = 30;
+    private static final int CREATIONS = 120;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    private final List<String> references = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        references.forEach(reference -> propertyRepository.findByReference(reference)
+                .ifPresent(propertyRepository::delete));
+        references.clear();
+    }
+
+    @Test
+    void createProperty_concurrently_shouldNotExhaustPoolAndGiveDistinctReferences() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<PropertyDetailResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < CREATIONS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return propertyService.createProperty(TestDataFactory.createPropertyRequest());
+                }));
+            }
+            start.countDown();
+
+            // well below Hikari's 30 s connection timeout, which a pool deadlock would run into
+            for (Future<PropertyDetailResponse> future : futures) {
+                references.add(future.get(20, TimeUnit.SECONDS).reference());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(references).hasSize(CREATIONS).doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,92 @@
+package be.feysdigitalservices.immofds.integration;
+
+import be.feysdigitalservices.immofds.TestDataFactory;
+import be.feysdigitalservices.immofds.domain.entity.Property;
+import be.feysdigitalservices.immofds.domain.entity.PropertyImage;
+import be.feysdigitalservices.immofds.dto.request.PropertySearchCriteria;
+import be.feysdigitalservices.immofds.dto.response.PageResponse;
+import be.feysdigitalservices.immofds.dto.response.PropertySummaryResponse;
+import be.feysdigitalservices.immofds.repository.PropertyRepository;
+import be.feysdigitalservices.immofds.service.PropertyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PropertySummaryStatementCountTest extends IntegrationTestBase {
+
+    private static final String CITY = "Comptageville";
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    private final List<Property> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 15; i++) {
+            Property property = TestDataFactory.createProperty();
+            property.setId(null);
+            property.setReference("IMM-2026-9%04d".formatted(i));
+            property.setCity(CITY);
+            property.addImage(image("facade.jpg", 0, false));
+            property.addImage(image("jardin.jpg", 1, i % 2 == 0));
+            saved.add(propertyRepository.save(property));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        propertyRepository.deleteAll(saved);
+        saved.clear();
+    }
+
+    @Test
+    void searchAdminProperties_shouldNotLoadImagesPerRow() {
+        PropertySearchCriteria criteria = new PropertySearchCriteria(
+                null, null, null, CITY, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null, null, null);
+
+        SqlStatementCounter.reset();
+        PageResponse<PropertySummaryResponse> result = propertyService.searchAdminProperties(
+                criteria, PageRequest.of(0, 12, Sort.by("reference")));
+        List<String> statements = SqlStatementCounter.statements();
+
+        // page + count + primary image ids, whatever the page size
+        assertThat(statements).as(String.join("\n", statements)).hasSize(3);
+        assertThat(statements).noneMatch(sql -> sql.contains("description"));
+        assertThat(result.content()).hasSize(12);
+        assertThat(result.totalElements()).isEqualTo(15);
+        assertThat(result.content().get(0).primaryImageId()).isEqualTo(imageId(saved.get(0), "facade.jpg"));
+        assertThat(result.content().get(1).primaryImageId()).isEqualTo(imageId(saved.get(1), "jardin.jpg"));
+    }
+
+    private static PropertyImage image(String fileName, int displayOrder, boolean primary) {
+        PropertyImage image = new PropertyImage();
+        image.setFileName(fileName);
+        image.setContentType("image/jpeg");
+        image.setStorageKey("0".repeat(64));
+        image.setSizeBytes(0L);
+        image.setDisplayOrder(displayOrder);
+        image.setPrimary(primary);
+        return image;
+    }
+
+    private static Long imageId(Property property, String fileName) {
+        return property.getImages().stream()
+                .filter(image -> image.getFileName().equals(fileName))
+                .findFirst()
+                .map(PropertyImage::getId)
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,136 @@
+package be.feysdigitalservices.immofds.integration;
+
+import be.feysdigitalservices.immofds.TestDataFactory;
+import be.feysdigitalservices.immofds.domain.entity.Property;
+import be.feysdigitalservices.immofds.domain.enums.TransactionType;
+import be.feysdigitalservices.immofds.dto.request.PropertySearchCriteria;
+import be.feysdigitalservices.immofds.dto.response.CursorPageResponse;
+import be.feysdigitalservices.immofds.dto.response.PropertySummaryResponse;
+import be.feysdigitalservices.immofds.repository.PropertyRepository;
+import be.feysdigitalservices.immofds.service.PropertyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the public searches answered by the database, captures the SQL Hibernate generated for the
+ * {@code properties} table and checks its generic plan (the one a bound {@code status} parameter gets)
+ * with sequential scans and sorts disabled: on a table this small the planner would otherwise scan and sort
+ * it whatever the indexes. A disabled node still appears when there is no alternative, so a {@code Seq Scan}
+ * means no index can serve the filter and a {@code Sort} that no index provides the requested order, i.e.
+ * every published row is read before the first page is returned.
+ */
+class PublicSearchQueryPlanTest extends IntegrationTestBase {
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Property> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 15; i++) {
+            Property property = TestDataFactory.createProperty();
+            property.setId(null);
+            property.setReference("IMM-2026-7%04d".formatted(i));
+            saved.add(propertyRepository.save(property));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        propertyRepository.deleteAll(saved);
+        saved.clear();
+    }
+
+    @Test
+    void scrollByCreationDate_shouldReadIndexInOrder() {
+        List<String> queries = captureQueries(() -> {
+            CursorPageResponse<PropertySummaryResponse> first = propertyService.scrollPublicProperties(
+                    criteria(null), null, 5, Sort.Order.desc("createdAt"), true);
+            propertyService.scrollPublicProperties(criteria(null), first.nextCursor(), 5,
+                    Sort.Order.desc("createdAt"), false);
+        });
+
+        assertThat(queries).hasSizeGreaterThanOrEqualTo(2);
+        queries.forEach(this::assertIndexedWithoutSort);
+    }
+
+    @Test
+    void scrollWithinTransactionType_shouldReadIndexInOrder() {
+        List<String> queries = captureQueries(() -> {
+            propertyService.scrollPublicProperties(criteria(TransactionType.SALE), null, 5,
+                    Sort.Order.desc("createdAt"), false);
+            propertyService.scrollPublicProperties(criteria(TransactionType.SALE), null, 5,
+                    Sort.Order.asc("price"), false);
+            propertyService.scrollPublicProperties(criteria(null), null, 5,
+                    Sort.Order.desc("updatedAt"), false);
+        });
+
+        assertThat(queries).hasSize(3);
+        queries.forEach(this::assertIndexedWithoutSort);
+    }
+
+    private List<String> captureQueries(Runnable searches) {
+        SqlStatementCounter.reset();
+        searches.run();
+        return SqlStatementCounter.statements().stream()
+                .filter(sql -> sql.contains(" from properties "))
+                .toList();
+    }
+
+    private void assertIndexedWithoutSort(String sql) {
+        List<String> plan = genericPlan(sql);
+        assertThat(plan)
+                .as("Plan de %s", sql)
+                .noneMatch(line -> line.contains("Seq Scan on properties"))
+                .noneMatch(line -> line.strip().replaceFirst("^->\\s*", "").matches("(Incremental )?Sort\\b.*"));
+    }
+
+    private List<String> genericPlan(String sql) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            jdbcTemplate.execute("SET LOCAL enable_sort = off");
+            jdbcTemplate.execute("SET LOCAL enable_incremental_sort = off");
+            return jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + positionalParameters(sql), String.class);
+        });
+    }
+
+    private static String positionalParameters(String sql) {
+        StringBuilder positional = new StringBuilder(sql.length() + 16);
+        int index = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                positional.append('$').append(++index);
+            } else {
+                positional.append(c);
+            }
+        }
+        return positional.toString();
+    }
+
+    private static PropertySearchCriteria criteria(TransactionType transactionType) {
+        return new PropertySearchCriteria(
+                null, transactionType, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null, null, null);
+    }
+}
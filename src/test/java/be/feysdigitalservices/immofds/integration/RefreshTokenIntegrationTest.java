@@ -0,0 +1,119 @@
+package be.feysdigitalservices.immofds.integration;
+
+import be.feysdigitalservices.immofds.dto.request.RefreshTokenRequest;
+import be.feysdigitalservices.immofds.dto.response.AuthResponse;
+import be.feysdigitalservices.immofds.exception.InvalidTokenException;
+import be.feysdigitalservices.immofds.repository.UserRepository;
+import be.feysdigitalservices.immofds.security.TokenHashing;
+import be.feysdigitalservices.immofds.service.AuthService;
+import be.feysdigitalservices.immofds.service.RefreshTokenPurgeJob;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshTokenIntegrationTest extends IntegrationTestBase {
+
+    // More than one purge batch (RefreshTokenPurgeJob.BATCH_SIZE = 1000)
+    private static final int EXPIRED = 1005;
+    private static final int VALID = 3;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private RefreshTokenPurgeJob purgeJob;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.findByEmail("admin@immofds.be").orElseThrow().getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM refresh_tokens WHERE user_id = ?", userId);
+    }
+
+    @Test
+    void purgeExpired_shouldDeleteEveryExpiredRowAcrossBatches() {
+        Instant now = Instant.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < EXPIRED; i++) {
+            rows.add(row("expired-" + i, now.minus(Duration.ofDays(1))));
+        }
+        for (int i = 0; i < VALID; i++) {
+            rows.add(row("valid-" + i, now.plus(Duration.ofDays(1))));
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO refresh_tokens (token_hash, user_id, expiry_date) VALUES (?, ?, ?)", rows);
+
+        int purged = purgeJob.purgeExpired();
+
+        assertThat(purged).isGreaterThanOrEqualTo(EXPIRED);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM refresh_tokens WHERE expiry_date < now()", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM refresh_tokens WHERE user_id = ?", Integer.class, userId)).isEqualTo(VALID);
+    }
+
+    @Test
+    void refresh_concurrentlyWithSameToken_shouldSucceedOnce() throws Exception {
+        jdbcTemplate.update("INSERT INTO refresh_tokens (token_hash, user_id, expiry_date) VALUES (?, ?, ?)",
+                row("shared-token", Instant.now().plus(Duration.ofDays(1))));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<AuthResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return authService.refresh(new RefreshTokenRequest("shared-token"));
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            int rejected = 0;
+            for (Future<AuthResponse> future : futures) {
+                try {
+                    future.get(20, TimeUnit.SECONDS);
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(InvalidTokenException.class);
+                    rejected++;
+                }
+            }
+            assertThat(succeeded).isEqualTo(1);
+            assertThat(rejected).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Object[] row(String token, Instant expiryDate) {
+        return new Object[]{TokenHashing.sha256Hex(token), userId, Timestamp.from(expiryDate)};
+    }
+}
@@ -0,0 +1,334 @@
+package be.feysdigitalservices.immofds.integration;
+
+import be.feysdigitalservices.immofds.TestDataFactory;
+import be.feysdigitalservices.immofds.domain.entity.Property;
+import be.feysdigitalservices.immofds.domain.entity.User;
+import be.feysdigitalservices.immofds.domain.enums.ContactStatus;
+import be.feysdigitalservices.immofds.domain.enums.PropertyStatus;
+import be.feysdigitalservices.immofds.domain.enums.PropertyType;
+import be.feysdigitalservices.immofds.domain.enums.UserRole;
+import be.feysdigitalservices.immofds.dto.request.ContactNoteCreateRequest;
+import be.feysdigitalservices.immofds.dto.request.ContactNoteUpdateRequest;
+import be.feysdigitalservices.immofds.dto.request.ContactStatusUpdateRequest;
+import be.feysdigitalservices.immofds.dto.request.ImageReorderRequest;
+import be.feysdigitalservices.immofds.dto.request.PropertyStatusUpdateRequest;
+import be.feysdigitalservices.immofds.dto.request.RefreshTokenRequest;
+import be.feysdigitalservices.immofds.dto.request.SellYourHomeRequest;
+import be.feysdigitalservices.immofds.dto.request.UserUpdateRequest;
+import be.feysdigitalservices.immofds.dto.request.VisitRequestDto;
+import be.feysdigitalservices.immofds.metrics.SqlStatementBudget;
+import be.feysdigitalservices.immofds.repository.ContactRequestRepository;
+import be.feysdigitalservices.immofds.repository.PropertyRepository;
+import be.feysdigitalservices.immofds.repository.UserRepository;
+import be.feysdigitalservices.immofds.security.JwtTokenProvider;
+import be.feysdigitalservices.immofds.security.TokenRevocationCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.AbstractMockHttpServletRequestBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Calls every endpoint with {@code sql-budget.mode=FAIL}: a request running more statements than
+ * its {@link SqlStatementBudget} throws from the filter and fails the test. The fixtures hold
+ * enough rows (15 properties, 8 contacts with 2 notes each) for a per-row query to blow the budget.
+ */
+class SqlStatementBudgetTest extends IntegrationTestBase {
+
+    private static final String CITY = "Budgetville";
+    private static final String CONTROLLER_PACKAGE = "be.feysdigitalservices.immofds.controller";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private ContactRequestRepository contactRequestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private TokenRevocationCache revocationCache;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    private final List<Long> propertyIds = new ArrayList<>();
+    private final List<Long> contactIds = new ArrayList<>();
+    private String bearer;
+
+    @BeforeEach
+    void setUp() {
+        User admin = userRepository.findByEmail("admin@immofds.be").orElseThrow();
+        revocationCache.update(admin.getId(), admin.getTokenVersion());
+        bearer = "Bearer " + tokenProvider.generateToken(admin);
+
+        for (int i = 1; i <= 15; i++) {
+            Property property = TestDataFactory.createProperty();
+            property.setId(null);
+            property.setReference("IMM-2026-8%04d".formatted(i));
+            property.setCity(CITY);
+            propertyIds.add(propertyRepository.save(property).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        contactIds.stream()
+                .filter(contactRequestRepository::existsById)
+                .forEach(contactRequestRepository::deleteById);
+        propertyRepository.deleteAllById(propertyIds);
+        propertyIds.clear();
+        contactIds.clear();
+    }
+
+    @Test
+    void everyEndpoint_shouldDeclareBudget() {
+        assertThat(handlerMapping.getHandlerMethods().values())
+                .filteredOn(handler -> handler.getBeanType().getPackageName().startsWith(CONTROLLER_PACKAGE))
+                .isNotEmpty()
+                .allSatisfy(handler -> assertThat(handler.hasMethodAnnotation(SqlStatementBudget.class))
+                        .as("%s sans @SqlStatementBudget", handler)
+                        .isTrue());
+    }
+
+    @Test
+    void publicPropertyEndpoints_shouldStayWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/public/properties").param("city", CITY))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/public/properties").param("city", CITY)
+                        .param("sortBy", "price").param("sortDir", "asc"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/public/properties").param("near", "50.85,4.35").param("radiusKm", "25")
+                        .param("sortBy", "distance").param("sortDir", "asc"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/public/properties/scroll").param("city", CITY)
+                        .param("includeTotal", "true"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/public/properties/facets").param("city", CITY))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/public/properties/locations").param("q", CITY))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/public/properties/map").param("bbox", "2.5,49.5,6.4,51.5").param("zoom", "8"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/public/properties/{reference}", "IMM-2026-80001"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/public/properties/types"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/public/properties/provinces"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void publicContactEndpoints_shouldStayWithinBudget() throws Exception {
+        contactIds.add(createGeneralContact());
+        contactIds.add(id(mockMvc.perform(post("/api/v1/public/contacts/sell-your-home")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new SellYourHomeRequest("Marie", "Peeters", "marie.peeters@example.com",
+                                "+32 470 98 76 54", "Estimation souhaitée", "Rue Neuve 1, 1000 Bruxelles",
+                                PropertyType.APARTMENT, new BigDecimal("280000")))))
+                .andExpect(status().isCreated())
+                .andReturn()));
+        contactIds.add(id(mockMvc.perform(post("/api/v1/public/contacts/visit-request")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new VisitRequestDto("Luc", "Janssens", "luc.janssens@example.com",
+                                "+32 470 11 22 33", "Visite samedi ?", "IMM-2026-80001"))))
+                .andExpect(status().isCreated())
+                .andReturn()));
+    }
+
+    @Test
+    void authEndpoints_shouldStayWithinBudget() throws Exception {
+        JsonNode login = body(mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(TestDataFactory.createLoginRequest())))
+                .andExpect(status().isOk())
+                .andReturn());
+        JsonNode refreshed = body(mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new RefreshTokenRequest(login.get("refreshToken").asString()))))
+                .andExpect(status().isOk())
+                .andReturn());
+        mockMvc.perform(post("/api/v1/auth/logout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new RefreshTokenRequest(refreshed.get("refreshToken").asString()))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void adminPropertyEndpoints_shouldStayWithinBudget() throws Exception {
+        mockMvc.perform(admin(get("/api/v1/admin/properties").param("city", CITY)))
+                .andExpect(status().isOk());
+        mockMvc.perform(admin(get("/api/v1/admin/properties/scroll").param("city", CITY)
+                        .param("includeTotal", "true")))
+                .andExpect(status().isOk());
+
+        String reference = createProperty();
+        mockMvc.perform(admin(get("/api/v1/admin/properties/{reference}", reference)))
+                .andExpect(status().isOk());
+        mockMvc.perform(admin(put("/api/v1/admin/properties/{reference}", reference)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(TestDataFactory.createPropertyUpdateRequest()))))
+                .andExpect(status().isOk());
+        mockMvc.perform(admin(patch("/api/v1/admin/properties/{reference}/status", reference)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new PropertyStatusUpdateRequest(PropertyStatus.PUBLISHED)))))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/public/properties/{reference}", reference))
+                .andExpect(status().isOk());
+        mockMvc.perform(admin(delete("/api/v1/admin/properties/{reference}", reference)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void adminImageEndpoints_shouldStayWithinBudget() throws Exception {
+        String reference = createProperty();
+        String images = "/api/v1/admin/properties/{reference}/images";
+        List<Long> imageIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            imageIds.add(id(mockMvc.perform(admin(multipart(images, reference)
+                            .file(new MockMultipartFile("file", "photo-" + i + ".jpg", "image/jpeg", jpeg()))
+                            .param("isPrimary", String.valueOf(i == 0))))
+                    .andExpect(status().isCreated())
+                    .andReturn()));
+        }
+
+        mockMvc.perform(admin(get(images, reference)))
+                .andExpect(status().isOk());
+        mockMvc.perform(admin(put(images + "/reorder", reference)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new ImageReorderRequest(imageIds.reversed())))))
+                .andExpect(status().isOk());
+        mockMvc.perform(admin(patch(images + "/{imageId}/primary", reference, imageIds.get(2))))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/public/properties/{reference}/images/{imageId}", reference, imageIds.get(2))
+                        .param("size", "CARD"))
+                .andExpect(status().isOk());
+        mockMvc.perform(admin(delete(images + "/{imageId}", reference, imageIds.get(0))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void adminContactEndpoints_shouldStayWithinBudget() throws Exception {
+        long lastNoteId = 0;
+        for (int i = 0; i < 8; i++) {
+            long contactId = createGeneralContact();
+            contactIds.add(contactId);
+            for (int n = 0; n < 2; n++) {
+                lastNoteId = id(mockMvc.perform(admin(post("/api/v1/admin/contacts/{id}/notes", contactId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(new ContactNoteCreateRequest("Rappel n°" + n)))))
+                        .andExpect(status().isCreated())
+                        .andReturn());
+            }
+        }
+        long contactId = contactIds.getLast();
+
+        mockMvc.perform(admin(get("/api/v1/admin/contacts")))
+                .andExpect(status().isOk());
+        mockMvc.perform(admin(get("/api/v1/admin/contacts/{id}", contactId)))
+                .andExpect(status().isOk());
+        mockMvc.perform(admin(patch("/api/v1/admin/contacts/{id}/status", contactId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new ContactStatusUpdateRequest(ContactStatus.IN_PROGRESS)))))
+                .andExpect(status().isOk());
+        mockMvc.perform(admin(patch("/api/v1/admin/contacts/{id}/notes/{noteId}", contactId, lastNoteId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new ContactNoteUpdateRequest("Rappel fait")))))
+                .andExpect(status().isOk());
+        mockMvc.perform(admin(delete("/api/v1/admin/contacts/{id}", contactId)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void adminUserEndpoints_shouldStayWithinBudget() throws Exception {
+        mockMvc.perform(admin(get("/api/v1/admin/users")))
+                .andExpect(status().isOk());
+        long userId = id(mockMvc.perform(admin(post("/api/v1/admin/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(TestDataFactory.createUserRequest()))))
+                .andExpect(status().isCreated())
+                .andReturn());
+        mockMvc.perform(admin(get("/api/v1/admin/users/{id}", userId)))
+                .andExpect(status().isOk());
+        mockMvc.perform(admin(put("/api/v1/admin/users/{id}", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new UserUpdateRequest("budget.admin@immofds.be", "Budget", "Admin",
+                                UserRole.ADMIN, true)))))
+                .andExpect(status().isOk());
+        mockMvc.perform(admin(delete("/api/v1/admin/users/{id}", userId)))
+                .andExpect(status().isOk());
+    }
+
+    private String createProperty() throws Exception {
+        JsonNode created = body(mockMvc.perform(admin(post("/api/v1/admin/properties")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(TestDataFactory.createPropertyRequest()))))
+                .andExpect(status().isCreated())
+                .andReturn());
+        String reference = created.get("reference").asString();
+        propertyIds.add(propertyRepository.findByReference(reference).orElseThrow().getId());
+        return reference;
+    }
+
+    private long createGeneralContact() throws Exception {
+        return id(mockMvc.perform(post("/api/v1/public/contacts/general")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(TestDataFactory.createGeneralContactRequest())))
+                .andExpect(status().isCreated())
+                .andReturn());
+    }
+
+    private <B extends AbstractMockHttpServletRequestBuilder<B>> B admin(B request) {
+        return request.header(HttpHeaders.AUTHORIZATION, bearer);
+    }
+
+    private String json(Object value) {
+        return jsonMapper.writeValueAsString(value);
+    }
+
+    private JsonNode body(MvcResult result) throws Exception {
+        return jsonMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private long id(MvcResult result) throws Exception {
+        return body(result).get("id").asLong();
+    }
+
+    private static byte[] jpeg() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB), "jpg", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,109 @@
+package be.feysdigitalservices.immofds.metrics;
+
+import be.feysdigitalservices.immofds.config.SqlBudgetConfig;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqlStatementMetricsFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private SqlStatementMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new SqlStatementMetricsFilter(registry, new SqlBudgetConfig(SqlBudgetConfig.Mode.FAIL));
+    }
+
+    @Test
+    void doFilter_shouldRecordStatementsPerRouteTemplate() throws Exception {
+        RequestStatementCounter.increment();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/public/properties/IMM-2026-00001");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/public/properties/{reference}");
+            RequestStatementCounter.increment();
+            RequestStatementCounter.increment();
+        });
+
+        DistributionSummary summary = registry.get(SqlStatementMetricsFilter.METRIC_NAME)
+                .tag("method", "GET")
+                .tag("uri", "/api/v1/public/properties/{reference}")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void doFilter_whenChainFails_shouldStillRecord() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/unknown");
+        FilterChain failing = (req, res) -> {
+            RequestStatementCounter.increment();
+            throw new IllegalStateException("boom");
+        };
+
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), failing))
+                .isInstanceOf(IllegalStateException.class);
+
+        DistributionSummary summary = registry.get(SqlStatementMetricsFilter.METRIC_NAME)
+                .tag("uri", "UNKNOWN")
+                .summary();
+        assertThat(summary.totalAmount()).isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_overBudgetInFailMode_shouldThrow() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/admin/contacts");
+
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), budgetedCall(3)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("3 requêtes pour un budget de 2");
+    }
+
+    @Test
+    void doFilter_withinBudget_shouldPass() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/admin/contacts");
+
+        assertThatCode(() -> filter.doFilter(request, new MockHttpServletResponse(), budgetedCall(2)))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void doFilter_overBudgetInWarnMode_shouldOnlyRecord() throws Exception {
+        filter = new SqlStatementMetricsFilter(registry, new SqlBudgetConfig(SqlBudgetConfig.Mode.WARN));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/admin/contacts");
+
+        assertThatCode(() -> filter.doFilter(request, new MockHttpServletResponse(), budgetedCall(5)))
+                .doesNotThrowAnyException();
+        assertThat(registry.get(SqlStatementMetricsFilter.METRIC_NAME).summary().totalAmount()).isEqualTo(5);
+    }
+
+    private FilterChain budgetedCall(int statements) throws NoSuchMethodException {
+        HandlerMethod handler = new HandlerMethod(new BudgetedController(), BudgetedController.class.getMethod("list"));
+        return (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler);
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/admin/contacts");
+            for (int i = 0; i < statements; i++) {
+                RequestStatementCounter.increment();
+            }
+        };
+    }
+
+    static class BudgetedController {
+
+        @SqlStatementBudget(2)
+        public void list() {
+        }
+    }
+}
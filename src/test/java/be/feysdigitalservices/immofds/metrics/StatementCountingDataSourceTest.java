@@ -0,0 +1,60 @@
+package be.feysdigitalservices.immofds.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatementCountingDataSourceTest {
+
+    private Connection target;
+    private StatementCountingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(Connection.class);
+        PreparedStatement prepared = mock(PreparedStatement.class);
+        when(prepared.executeQuery()).thenReturn(mock(ResultSet.class));
+        when(target.prepareStatement(anyString())).thenReturn(prepared);
+        Statement statement = mock(Statement.class);
+        when(statement.executeQuery(anyString())).thenReturn(mock(ResultSet.class));
+        when(target.createStatement()).thenReturn(statement);
+        DataSource targetDataSource = mock(DataSource.class);
+        when(targetDataSource.getConnection()).thenReturn(target);
+        dataSource = new StatementCountingDataSource(targetDataSource);
+        RequestStatementCounter.reset();
+    }
+
+    @Test
+    void jdbcTemplate_shouldCountEveryStatement() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.queryForList("SELECT id FROM properties WHERE id = ?", Long.class, 1L);
+        jdbcTemplate.queryForList("SELECT id FROM properties", Long.class);
+
+        assertThat(RequestStatementCounter.count()).isEqualTo(2);
+    }
+
+    @Test
+    void connectionCalls_shouldNotCount() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.commit();
+        }
+
+        assertThat(RequestStatementCounter.count()).isZero();
+        verify(target).close();
+    }
+}
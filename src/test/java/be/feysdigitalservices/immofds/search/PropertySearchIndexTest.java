@@ -0,0 +1,389 @@
+package be.feysdigitalservices.immofds.search;
+
+import be.feysdigitalservices.immofds.TestDataFactory;
+import be.feysdigitalservices.immofds.domain.entity.Property;
+import be.feysdigitalservices.immofds.domain.enums.PropertyStatus;
+import be.feysdigitalservices.immofds.domain.enums.PropertyType;
+import be.feysdigitalservices.immofds.domain.enums.Province;
+import be.feysdigitalservices.immofds.dto.request.BoundingBox;
+import be.feysdigitalservices.immofds.dto.request.GeoPoint;
+import be.feysdigitalservices.immofds.dto.request.PropertySearchCriteria;
+import be.feysdigitalservices.immofds.dto.response.FacetCountResponse;
+import be.feysdigitalservices.immofds.dto.response.LocationSuggestionResponse;
+import be.feysdigitalservices.immofds.dto.response.PropertyFacetsResponse;
+import be.feysdigitalservices.immofds.dto.response.PropertyMapPointResponse;
+import be.feysdigitalservices.immofds.dto.response.PropertyMapResponse;
+import be.feysdigitalservices.immofds.event.PropertyChangedEvent;
+import be.feysdigitalservices.immofds.repository.PropertyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PropertySearchIndexTest {
+
+    private PropertyRepository propertyRepository;
+    private PropertySearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        propertyRepository = mock(PropertyRepository.class);
+        index = new PropertySearchIndex(propertyRepository);
+    }
+
+    @Test
+    void search_beforeReload_shouldNotAnswer() {
+        assertThat(index.search(emptyCriteria(), byPrice(Sort.Direction.ASC))).isEmpty();
+    }
+
+    @Test
+    void search_withTypeAndAmenity_shouldReturnMatchingIds() {
+        Property house = property(1L, PropertyType.HOUSE, "350000.00");
+        Property apartment = property(2L, PropertyType.APARTMENT, "250000.00");
+        Property houseWithoutGarden = property(3L, PropertyType.HOUSE, "300000.00");
+        houseWithoutGarden.setGarden(false);
+        when(propertyRepository.findByStatus(PropertyStatus.PUBLISHED))
+                .thenReturn(List.of(house, apartment, houseWithoutGarden));
+        index.reload();
+
+        PropertySearchCriteria criteria = new PropertySearchCriteria(
+                PropertyType.HOUSE, null, null, null, null, null, null, null, null,
+                null, true, null, null, null, null, null, null, null, null, null);
+        Optional<PropertySearchIndex.Result> result = index.search(criteria, byPrice(Sort.Direction.ASC));
+
+        assertThat(result).isPresent();
+        assertThat(result.get().ids()).containsExactly(1L);
+        assertThat(result.get().totalElements()).isEqualTo(1);
+    }
+
+    @Test
+    void search_withPriceRange_shouldFilterAndSortByPrice() {
+        when(propertyRepository.findByStatus(PropertyStatus.PUBLISHED)).thenReturn(List.of(
+                property(1L, PropertyType.HOUSE, "350000.00"),
+                property(2L, PropertyType.HOUSE, "150000.00"),
+                property(3L, PropertyType.HOUSE, "250000.00"),
+                property(4L, PropertyType.HOUSE, "450000.00")));
+        index.reload();
+
+        PropertySearchCriteria criteria = new PropertySearchCriteria(
+                null, null, null, null, new BigDecimal("200000"), new BigDecimal("400000"), null, null, null,
+                null, null, null, null, null, null, null, null, null, null, null);
+        Optional<PropertySearchIndex.Result> result = index.search(criteria, byPrice(Sort.Direction.DESC));
+
+        assertThat(result).isPresent();
+        assertThat(result.get().ids()).containsExactly(1L, 3L);
+        assertThat(result.get().totalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void search_secondPage_shouldSkipFirstPage() {
+        when(propertyRepository.findByStatus(PropertyStatus.PUBLISHED)).thenReturn(List.of(
+                property(1L, PropertyType.HOUSE, "100000.00"),
+                property(2L, PropertyType.HOUSE, "200000.00"),
+                property(3L, PropertyType.HOUSE, "300000.00")));
+        index.reload();
+
+        Optional<PropertySearchIndex.Result> result = index.search(emptyCriteria(),
+                PageRequest.of(1, 2, Sort.by("price").ascending()));
+
+        assertThat(result).isPresent();
+        assertThat(result.get().ids()).containsExactly(3L);
+        assertThat(result.get().totalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void search_withUnsupportedSort_shouldNotAnswer() {
+        when(propertyRepository.findByStatus(PropertyStatus.PUBLISHED)).thenReturn(List.of());
+        index.reload();
+
+        assertThat(index.search(emptyCriteria(), PageRequest.of(0, 12, Sort.by("title")))).isEmpty();
+    }
+
+    @Test
+    void onPropertyChanged_shouldAddAndRemoveProperties() {
+        when(propertyRepository.findByStatus(PropertyStatus.PUBLISHED)).thenReturn(List.of());
+        index.reload();
+
+        Property property = property(7L, PropertyType.LOFT, "500000.00");
+        index.onPropertyChanged(new PropertyChangedEvent(property));
+        assertThat(index.search(emptyCriteria(), byPrice(Sort.Direction.ASC)).get().ids()).containsExactly(7L);
+
+        property.setStatus(PropertyStatus.ARCHIVED);
+        index.onPropertyChanged(new PropertyChangedEvent(property));
+        assertThat(index.search(emptyCriteria(), byPrice(Sort.Direction.ASC)).get().totalElements()).isZero();
+    }
+
+    @Test
+    void onPropertyChanged_priceUpdate_shouldMoveSlotInSortedColumns() {
+        Property cheap = property(1L, PropertyType.HOUSE, "100000.00");
+        Property middle = property(2L, PropertyType.HOUSE, "200000.00");
+        Property expensive = property(3L, PropertyType.HOUSE, "300000.00");
+        when(propertyRepository.findByStatus(PropertyStatus.PUBLISHED)).thenReturn(List.of(cheap, middle, expensive));
+        index.reload();
+
+        cheap.setPrice(new BigDecimal("250000.00"));
+        index.onPropertyChanged(new PropertyChangedEvent(cheap));
+        index.onPropertyChanged(new PropertyChangedEvent(withStatus(property(4L, PropertyType.HOUSE, "50000.00"),
+                PropertyStatus.DRAFT)));
+
+        assertThat(index.search(emptyCriteria(), byPrice(Sort.Direction.ASC)).get().ids()).containsExactly(2L, 1L, 3L);
+        PropertySearchCriteria upTo260k = new PropertySearchCriteria(
+                null, null, null, null, null, new BigDecimal("260000"), null, null, null,
+                null, null, null, null, null, null, null, null, null, null, null);
+        assertThat(index.search(upTo260k, byPrice(Sort.Direction.DESC)).get().ids()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void reload_shouldKeepChangesCommittedWhileReading() {
+        Property published = property(1L, PropertyType.HOUSE, "100000.00");
+        Property publishedDuringRead = property(2L, PropertyType.HOUSE, "200000.00");
+        when(propertyRepository.findByStatus(PropertyStatus.PUBLISHED)).thenAnswer(invocation -> {
+            index.onPropertyChanged(new PropertyChangedEvent(publishedDuringRead));
+            return List.of(published);
+        });
+
+        index.reload();
+
+        assertThat(index.search(emptyCriteria(), byPrice(Sort.Direction.ASC)).get().ids()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void search_withText_shouldMatchAccentAndInflectionInsensitively() {
+        Property liege = property(1L, PropertyType.APARTMENT, "250000.00");
+        liege.setTitle("Appartements rénovés au centre");
+        liege.setDescription("Deux chambres, proche de la gare");
+        liege.setCity("Liège");
+        Property brussels = property(2L, PropertyType.HOUSE, "350000.00");
+        when(propertyRepository.findByStatus(PropertyStatus.PUBLISHED)).thenReturn(List.of(liege, brussels));
+        index.reload();
+
+        assertThat(index.search(textCriteria("liege appartement renove"), byPrice(Sort.Direction.ASC)).get().ids())
+                .containsExactly(1L);
+        assertThat(index.search(textCriteria("Maisons"), byPrice(Sort.Direction.ASC)).get().ids())
+                .containsExactly(2L);
+        assertThat(index.search(textCriteria("liege maison"), byPrice(Sort.Direction.ASC)).get().totalElements())
+                .isZero();
+    }
+
+    @Test
+    void textSearch_shouldFollowPropertyChanges() {
+        when(propertyRepository.findByStatus(PropertyStatus.PUBLISHED)).thenReturn(List.of());
+        index.reload();
+        assertThat(PropertySearchIndex.isTextQuery("de la")).isFalse();
+
+        Property property = property(7L, PropertyType.LOFT, "500000.00");
+        property.setTitle("Loft industriel");
+        index.onPropertyChanged(new PropertyChangedEvent(property));
+        assertThat(index.search(textCriteria("industriel"), byPrice(Sort.Direction.ASC)).get().ids())
+                .containsExactly(7L);
+
+        property.setTitle("Loft lumineux");
+        index.onPropertyChanged(new PropertyChangedEvent(property));
+        assertThat(index.search(textCriteria("industriel"), byPrice(Sort.Direction.ASC)).get().ids()).isEmpty();
+        assertThat(index.search(textCriteria("lumineux"), byPrice(Sort.Direction.ASC)).get().ids())
+                .containsExactly(7L);
+    }
+
+    @Test
+    void scroll_withTextQuery_shouldContinueAfterKeyAndId() {
+        Property cheap = property(1L, PropertyType.HOUSE, "250000.00");
+        Property middle = property(2L, PropertyType.HOUSE, "300000.00");
+        Property sameMiddle = property(3L, PropertyType.HOUSE, "300000.00");
+        Property expensive = property(4L, PropertyType.HOUSE, "400000.00");
+        Property other = property(5L, PropertyType.LOFT, "350000.00");
+        other.setTitle("Loft industriel");
+        when(propertyRepository.findByStatus(PropertyStatus.PUBLISHED))
+                .thenReturn(List.of(cheap, middle, sameMiddle, expensive, other));
+        PropertySearchCriteria criteria = textCriteria("belle");
+
+        assertThat(index.scroll(criteria, Sort.Order.asc("price"), null, null, 2)).contains(List.of(1L, 2L));
+        assertThat(index.scroll(criteria, Sort.Order.asc("price"), new BigDecimal("300000.00"), 2L, 2))
+                .contains(List.of(3L, 4L));
+        assertThat(index.scroll(criteria, Sort.Order.desc("price"), new BigDecimal("300000.00"), 3L, 2))
+                .contains(List.of(2L, 1L));
+        assertThat(index.scroll(criteria, Sort.Order.asc("title"), null, null, 2)).isEmpty();
+    }
+
+    @Test
+    void suggestLocations_shouldMatchPrefixSubstringAndTypos() {
+        Property liege = located(1L, "4000", "Liège", Province.LIEGE);
+        Property liegeToo = located(2L, "4000", "Liege", Province.LIEGE);
+        Property ixelles = located(3L, "1050", "Ixelles", Province.BRUXELLES_CAPITALE);
+        Property brussels = located(4L, "1000", "Bruxelles", Province.BRUXELLES_CAPITALE);
+        when(propertyRepository.findByStatus(PropertyStatus.PUBLISHED))
+                .thenReturn(List.of(liege, liegeToo, ixelles, brussels));
+
+        assertThat(index.suggestLocations("lieg", null, 10))
+                .extracting(LocationSuggestionResponse::postalCode, LocationSuggestionResponse::count)
+                .containsExactly(tuple("4000", 2L));
+        assertThat(index.suggestLocations("10", null, 10))
+                .extracting(LocationSuggestionResponse::city)
+                .containsExactly("Bruxelles", "Ixelles");
+        assertThat(index.suggestLocations("xelles", null, 10))
+                .extracting(LocationSuggestionResponse::city)
+                .containsExactly("Bruxelles", "Ixelles");
+        assertThat(index.suggestLocations("bruxels", null, 10))
+                .extracting(LocationSuggestionResponse::city)
+                .containsExactly("Bruxelles");
+        assertThat(index.suggestLocations("xelles", Province.LIEGE, 10)).isEmpty();
+        assertThat(index.suggestLocations("0100", null, 10)).isEmpty();
+
+        index.onPropertyChanged(new PropertyChangedEvent(withStatus(ixelles, PropertyStatus.ARCHIVED)));
+        assertThat(index.suggestLocations("ixel", null, 10)).isEmpty();
+    }
+
+    @Test
+    void search_withBoundsAndRadius_shouldKeepPropertiesOnScreen() {
+        Property grandPlace = placed(1L, 50.8467, 4.3525);
+        Property ixelles = placed(2L, 50.8333, 4.3667);
+        Property liege = placed(3L, 50.6326, 5.5797);
+        Property unplaced = placed(4L, null, null);
+        when(propertyRepository.findByStatus(PropertyStatus.PUBLISHED))
+                .thenReturn(List.of(grandPlace, ixelles, liege, unplaced));
+        index.reload();
+
+        assertThat(index.search(geoCriteria(null, null, BoundingBox.parse("4.20,50.75,4.50,50.95")),
+                byPrice(Sort.Direction.ASC)).get().ids())
+                .containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search(geoCriteria(new GeoPoint(50.8467, 4.3525), 1.0, null),
+                byPrice(Sort.Direction.ASC)).get().ids())
+                .containsExactly(1L);
+        assertThat(index.count(geoCriteria(new GeoPoint(50.8467, 4.3525), 100.0, null))).hasValue(3);
+    }
+
+    @Test
+    void search_byDistance_shouldOrderFromNearestAndLoadIndex() {
+        Property grandPlace = placed(1L, 50.8467, 4.3525);
+        Property ixelles = placed(2L, 50.8333, 4.3667);
+        Property liege = placed(3L, 50.6326, 5.5797);
+        Property unplaced = placed(4L, null, null);
+        when(propertyRepository.findByStatus(PropertyStatus.PUBLISHED))
+                .thenReturn(List.of(liege, unplaced, grandPlace, ixelles));
+
+        PropertySearchCriteria fromIxelles = geoCriteria(new GeoPoint(50.8300, 4.3700), null, null);
+        Optional<PropertySearchIndex.Result> result = index.search(fromIxelles,
+                PageRequest.of(0, 12, Sort.by(Sort.Direction.ASC, PropertySearchIndex.DISTANCE_SORT)));
+
+        assertThat(result).isPresent();
+        assertThat(result.get().ids()).containsExactly(2L, 1L, 3L, 4L);
+    }
+
+    @Test
+    void map_shouldClusterDenseCellsAndListSparseOnes() {
+        Property grandPlace = placed(1L, 50.8467, 4.3525);
+        Property ixelles = placed(2L, 50.8333, 4.3667);
+        ixelles.setPrice(new BigDecimal("410000.50"));
+        Property sablon = placed(3L, 50.8400, 4.3560);
+        sablon.setPrice(new BigDecimal("180000.00"));
+        Property liege = placed(4L, 50.6326, 5.5797);
+        liege.setReference("IMM-2026-00004");
+        Property outside = placed(5L, 51.2194, 4.4025);
+        when(propertyRepository.findByStatus(PropertyStatus.PUBLISHED))
+                .thenReturn(List.of(grandPlace, ixelles, sablon, liege, outside));
+
+        PropertyMapResponse map = index.map(geoCriteria(null, null, BoundingBox.parse("2.5,49.5,6.4,51.0")), 8);
+
+        assertThat(map.totalElements()).isEqualTo(4);
+        assertThat(map.clusters()).singleElement().satisfies(cluster -> {
+            assertThat(cluster.count()).isEqualTo(3);
+            assertThat(cluster.minPrice()).isEqualByComparingTo("180000.00");
+            assertThat(cluster.maxPrice()).isEqualByComparingTo("410000.50");
+            assertThat(cluster.latitude()).isBetween(50.83, 50.85);
+        });
+        assertThat(map.points())
+                .extracting(PropertyMapPointResponse::reference)
+                .containsExactly("IMM-2026-00004");
+
+        PropertyMapResponse zoomedIn = index.map(
+                geoCriteria(null, null, BoundingBox.parse("4.34,50.83,4.37,50.85")), 18);
+        assertThat(zoomedIn.clusters()).isEmpty();
+        assertThat(zoomedIn.points()).hasSize(3);
+    }
+
+    @Test
+    void facets_shouldIgnoreOwnFilterAndApplyOthers() {
+        Property house = property(1L, PropertyType.HOUSE, "350000.00");
+        Property apartment = property(2L, PropertyType.APARTMENT, "150000.00");
+        Property houseWithoutGarden = property(3L, PropertyType.HOUSE, "300000.00");
+        houseWithoutGarden.setGarden(false);
+        when(propertyRepository.findByStatus(PropertyStatus.PUBLISHED))
+                .thenReturn(List.of(house, apartment, houseWithoutGarden));
+
+        PropertySearchCriteria criteria = new PropertySearchCriteria(
+                PropertyType.HOUSE, null, null, null, null, null, null, null, null,
+                null, true, null, null, null, null, null, null, null, null, null);
+        PropertyFacetsResponse facets = index.facets(criteria);
+
+        assertThat(facets.totalElements()).isEqualTo(1);
+        assertThat(facets.propertyTypes())
+                .extracting(FacetCountResponse::value, FacetCountResponse::count)
+                .contains(tuple("HOUSE", 1L), tuple("APARTMENT", 1L), tuple("LOFT", 0L));
+        assertThat(facets.amenities())
+                .filteredOn(count -> count.value().equals("garden"))
+                .extracting(FacetCountResponse::count)
+                .containsExactly(1L);
+        assertThat(facets.priceRanges())
+                .filteredOn(range -> range.count() > 0)
+                .extracting(range -> range.from().intValue())
+                .containsExactly(300_000);
+    }
+
+    private static Property property(Long id, PropertyType type, String price) {
+        Property property = TestDataFactory.createProperty();
+        property.setId(id);
+        property.setPropertyType(type);
+        property.setPrice(new BigDecimal(price));
+        return property;
+    }
+
+    private static Property located(Long id, String postalCode, String city, Province province) {
+        Property property = property(id, PropertyType.APARTMENT, "250000.00");
+        property.setPostalCode(postalCode);
+        property.setCity(city);
+        property.setProvince(province);
+        return property;
+    }
+
+    private static Property placed(Long id, Double latitude, Double longitude) {
+        Property property = property(id, PropertyType.APARTMENT, "250000.00");
+        property.setLatitude(latitude);
+        property.setLongitude(longitude);
+        return property;
+    }
+
+    private static Property withStatus(Property property, PropertyStatus status) {
+        property.setStatus(status);
+        return property;
+    }
+
+    private static PageRequest byPrice(Sort.Direction direction) {
+        return PageRequest.of(0, 12, Sort.by(direction, "price"));
+    }
+
+    private static PropertySearchCriteria emptyCriteria() {
+        return new PropertySearchCriteria(
+                null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    private static PropertySearchCriteria textCriteria(String q) {
+        return new PropertySearchCriteria(
+                null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, q, null, null, null);
+    }
+
+    private static PropertySearchCriteria geoCriteria(GeoPoint near, Double radiusKm, BoundingBox bounds) {
+        return new PropertySearchCriteria(
+                null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, near, radiusKm, bounds);
+    }
+}
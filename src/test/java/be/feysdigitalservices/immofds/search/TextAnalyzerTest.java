@@ -0,0 +1,36 @@
+package be.feysdigitalservices.immofds.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextAnalyzerTest {
+
+    @Test
+    void terms_shouldFoldAccentsAndCase() {
+        assertThat(TextAnalyzer.terms("Liège")).isEqualTo(TextAnalyzer.terms("liege"));
+        assertThat(TextAnalyzer.terms("LIEGE")).isEqualTo(TextAnalyzer.terms("liege"));
+        assertThat(TextAnalyzer.terms("cœur")).containsExactly("coeur");
+    }
+
+    @Test
+    void terms_shouldReduceFrenchInflections() {
+        assertThat(TextAnalyzer.terms("maisons")).isEqualTo(TextAnalyzer.terms("maison"));
+        assertThat(TextAnalyzer.terms("rénovée")).isEqualTo(TextAnalyzer.terms("rénové"));
+        assertThat(TextAnalyzer.terms("chambres")).isEqualTo(TextAnalyzer.terms("chambre"));
+    }
+
+    @Test
+    void terms_shouldReduceDutchPluralsAndDiminutives() {
+        assertThat(TextAnalyzer.terms("woningen")).isEqualTo(TextAnalyzer.terms("woning"));
+        assertThat(TextAnalyzer.terms("huizen")).isEqualTo(TextAnalyzer.terms("huis"));
+        assertThat(TextAnalyzer.terms("tuintje")).isEqualTo(TextAnalyzer.terms("tuin"));
+    }
+
+    @Test
+    void terms_shouldDropStopWordsAndKeepNumbers() {
+        assertThat(TextAnalyzer.terms("L'appartement de la gare, 1050"))
+                .containsExactly("appartement", "gare", "1050");
+        assertThat(TextAnalyzer.terms("de het een")).isEmpty();
+    }
+}
@@ -0,0 +1,152 @@
+package be.feysdigitalservices.immofds.security;
+
+import be.feysdigitalservices.immofds.config.LoginConfig;
+import be.feysdigitalservices.immofds.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CredentialsVerifierTest {
+
+    private static final int CALLERS = 12;
+
+    private AuthenticationManager authenticationManager;
+    private ThreadPoolTaskExecutor executor;
+    private CredentialsVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        authenticationManager = mock(AuthenticationManager.class);
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.initialize();
+        LoginConfig config = new LoginConfig(1, 0, 3, 10, Duration.ofMinutes(15));
+        verifier = new CredentialsVerifier(authenticationManager, executor, new LoginAttemptLimiter(config));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void verify_shouldReturnAuthentication() {
+        Authentication authentication = mock(Authentication.class);
+        when(authenticationManager.authenticate(any())).thenReturn(authentication);
+
+        assertThat(verifier.verify("admin@immofds.be", "secret", "10.0.0.1")).isSameAs(authentication);
+    }
+
+    @Test
+    void verify_tooManyFailures_shouldRejectWithoutHashing() {
+        when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("bad"));
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> verifier.verify("Admin@immofds.be", "wrong", "10.0.0.1"))
+                    .isInstanceOf(BadCredentialsException.class);
+        }
+
+        assertThatThrownBy(() -> verifier.verify("admin@immofds.be", "wrong", "10.0.0.2"))
+                .isInstanceOf(TooManyRequestsException.class);
+        verify(authenticationManager, times(3)).authenticate(any());
+    }
+
+    @Test
+    void verify_saturatedExecutor_shouldRejectImmediately() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(authenticationManager.authenticate(any())).thenAnswer(inv -> {
+            started.countDown();
+            release.await();
+            return mock(Authentication.class);
+        });
+
+        CompletableFuture<Authentication> first = CompletableFuture.supplyAsync(
+                () -> verifier.verify("admin@immofds.be", "secret", "10.0.0.1"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> verifier.verify("other@immofds.be", "secret", "10.0.0.2"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    void verify_concurrentBurst_shouldHashNoMoreThanTheLimit() throws Exception {
+        ThreadPoolTaskExecutor hashing = new ThreadPoolTaskExecutor();
+        hashing.setCorePoolSize(4);
+        hashing.setMaxPoolSize(4);
+        hashing.setQueueCapacity(32);
+        hashing.initialize();
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            LoginConfig config = new LoginConfig(4, 32, 3, 100, Duration.ofMinutes(15));
+            CredentialsVerifier burstVerifier = new CredentialsVerifier(
+                    authenticationManager, hashing, new LoginAttemptLimiter(config));
+            CountDownLatch release = new CountDownLatch(1);
+            when(authenticationManager.authenticate(any())).thenAnswer(inv -> {
+                release.await(5, TimeUnit.SECONDS);
+                throw new BadCredentialsException("bad");
+            });
+
+            CountDownLatch rejected = new CountDownLatch(CALLERS - 3);
+            List<Future<?>> attempts = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                attempts.add(callers.submit(() -> {
+                    try {
+                        burstVerifier.verify("admin@immofds.be", "wrong", "10.0.0.1");
+                    } catch (TooManyRequestsException e) {
+                        rejected.countDown();
+                    } catch (BadCredentialsException ignored) {
+                        // one of the three attempts let through
+                    }
+                }));
+            }
+
+            // Rejected while the first three are still hashing, before any failure is recorded
+            assertThat(rejected.await(5, TimeUnit.SECONDS)).isTrue();
+            release.countDown();
+            for (Future<?> attempt : attempts) {
+                attempt.get(5, TimeUnit.SECONDS);
+            }
+            verify(authenticationManager, times(3)).authenticate(any());
+        } finally {
+            callers.shutdownNow();
+            hashing.shutdown();
+        }
+    }
+
+    @Test
+    void verify_successfulLogins_shouldNotCountAgainstTheIp() {
+        when(authenticationManager.authenticate(any())).thenReturn(mock(Authentication.class));
+
+        for (int i = 0; i < 12; i++) {
+            assertThat(verifier.verify("user" + i + "@immofds.be", "secret", "10.0.0.1")).isNotNull();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package be.feysdigitalservices.immofds.security;
+
+import be.feysdigitalservices.immofds.TestDataFactory;
+import be.feysdigitalservices.immofds.config.JwtConfig;
+import be.feysdigitalservices.immofds.domain.entity.User;
+import be.feysdigitalservices.immofds.repository.UserRepository;
+import be.feysdigitalservices.immofds.repository.UserTokenVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+    private UserRepository userRepository;
+    private JwtTokenProvider tokenProvider;
+    private TokenRevocationCache revocationCache;
+    private VerifiedTokenCache verifiedTokens;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findTokenVersions()).thenReturn(List.of(new UserTokenVersion(1L, 0)));
+        JwtConfig jwtConfig = new JwtConfig(
+                "test-secret-key-for-testing-purposes-only-must-be-at-least-256-bits-long-for-hs256", 900000, 604800000, 100);
+        tokenProvider = new JwtTokenProvider(jwtConfig);
+        revocationCache = new TokenRevocationCache(userRepository);
+        verifiedTokens = new VerifiedTokenCache(tokenProvider, jwtConfig);
+        filter = new JwtAuthenticationFilter(verifiedTokens, revocationCache);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void validToken_shouldAuthenticateFromClaimsWithoutLoadingUser() throws Exception {
+        User user = TestDataFactory.createUser();
+
+        String token = tokenProvider.generateToken(user);
+        authenticate(token);
+        authenticate(token);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getName()).isEqualTo("admin@immofds.be");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_SUPER_ADMIN");
+        verify(userRepository, times(1)).findTokenVersions();
+        assertThat(verifiedTokens.stats().missCount()).isEqualTo(1);
+        assertThat(verifiedTokens.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void revokedToken_shouldNotAuthenticate() throws Exception {
+        User user = TestDataFactory.createUser();
+        String token = tokenProvider.generateToken(user);
+
+        revocationCache.update(1L, 1);
+        authenticate(token);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void revokedCachedToken_shouldNotAuthenticate() throws Exception {
+        String token = tokenProvider.generateToken(TestDataFactory.createUser());
+        authenticate(token);
+        SecurityContextHolder.clearContext();
+
+        revocationCache.update(1L, 1);
+        authenticate(token);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void malformedToken_shouldNotBeCached() throws Exception {
+        authenticate("not-a-jwt");
+        authenticate("not-a-jwt");
+
+        assertThat(verifiedTokens.stats().hitCount()).isZero();
+    }
+
+    @Test
+    void inactiveUserToken_shouldNotAuthenticate() throws Exception {
+        User user = TestDataFactory.createUser();
+        user.setActive(false);
+
+        authenticate(tokenProvider.generateToken(user));
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void malformedToken_shouldNotAuthenticate() throws Exception {
+        authenticate("not-a-jwt");
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private void authenticate(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/admin/properties");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+}
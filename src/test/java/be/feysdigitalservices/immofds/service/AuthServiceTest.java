@@ -11,16 +11,16 @@ import be.feysdigitalservices.immofds.dto.response.UserResponse;
 import be.feysdigitalservices.immofds.exception.InvalidTokenException;
 import be.feysdigitalservices.immofds.mapper.UserMapper;
 import be.feysdigitalservices.immofds.repository.RefreshTokenRepository;
-import be.feysdigitalservices.immofds.repository.UserRepository;
+import be.feysdigitalservices.immofds.security.AuthenticatedUser;
+import be.feysdigitalservices.immofds.security.CredentialsVerifier;
 import be.feysdigitalservices.immofds.security.JwtTokenProvider;
+import be.feysdigitalservices.immofds.security.TokenHashing;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 
 import java.time.Instant;
 import java.util.Optional;
@@ -34,7 +34,7 @@ import static org.mockito.Mockito.*;
 class AuthServiceTest {
 
     @Mock
-    private AuthenticationManager authenticationManager;
+    private CredentialsVerifier credentialsVerifier;
 
     @Mock
     private JwtTokenProvider tokenProvider;
@@ -42,9 +42,6 @@ class AuthServiceTest {
     @Mock
     private RefreshTokenRepository refreshTokenRepository;
 
-    @Mock
-    private UserRepository userRepository;
-
     @Mock
     private UserMapper userMapper;
 
@@ -58,14 +55,13 @@ class AuthServiceTest {
     void login_shouldReturnAuthResponse() {
         LoginRequest request = TestDataFactory.createLoginRequest();
         User user = TestDataFactory.createUser();
-        Authentication authentication = mock(Authentication.class);
         UserResponse userResponse = mock(UserResponse.class);
 
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authentication);
-        when(tokenProvider.generateToken(authentication)).thenReturn("jwt-token");
+        when(tokenProvider.generateToken(user)).thenReturn("jwt-token");
         when(tokenProvider.getExpirationMs()).thenReturn(900000L);
-        when(userRepository.findByEmail(request.email())).thenReturn(Optional.of(user));
+        AuthenticatedUser principal = new AuthenticatedUser(user);
+        when(credentialsVerifier.verify(request.email(), request.password(), "127.0.0.1"))
+                .thenReturn(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
         when(jwtConfig.refreshExpirationMs()).thenReturn(604800000L);
         when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> {
             RefreshToken rt = inv.getArgument(0);
@@ -74,19 +70,61 @@ class AuthServiceTest {
         });
         when(userMapper.toResponse(user)).thenReturn(userResponse);
 
-        AuthResponse result = authService.login(request);
+        AuthResponse result = authService.login(request, "127.0.0.1");
 
         assertThat(result.accessToken()).isEqualTo("jwt-token");
         assertThat(result.tokenType()).isEqualTo("Bearer");
+        verify(refreshTokenRepository).save(argThat(rt ->
+                rt.getTokenHash().equals(TokenHashing.sha256Hex(result.refreshToken()))));
+        verify(refreshTokenRepository, never()).delete(any());
+    }
+
+    @Test
+    void refresh_shouldRotateToken() {
+        User user = TestDataFactory.createUser();
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(TokenHashing.sha256Hex("current-token"));
+        refreshToken.setUser(user);
+        refreshToken.setExpiryDate(Instant.now().plusSeconds(3600));
+
+        when(refreshTokenRepository.findByTokenHash(TokenHashing.sha256Hex("current-token")))
+                .thenReturn(Optional.of(refreshToken));
+        when(jwtConfig.refreshExpirationMs()).thenReturn(604800000L);
+        when(refreshTokenRepository.rotate(eq(TokenHashing.sha256Hex("current-token")), anyString(), any(), any()))
+                .thenReturn(1);
+        when(tokenProvider.generateToken(user)).thenReturn("jwt-token");
+
+        AuthResponse result = authService.refresh(new RefreshTokenRequest("current-token"));
+
+        assertThat(result.refreshToken()).isNotEqualTo("current-token");
+        verify(refreshTokenRepository).rotate(eq(TokenHashing.sha256Hex("current-token")),
+                eq(TokenHashing.sha256Hex(result.refreshToken())), any(), any());
+    }
+
+    @Test
+    void refresh_alreadyRotatedConcurrently_shouldThrow() {
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(TokenHashing.sha256Hex("current-token"));
+        refreshToken.setUser(TestDataFactory.createUser());
+        refreshToken.setExpiryDate(Instant.now().plusSeconds(3600));
+
+        when(refreshTokenRepository.findByTokenHash(TokenHashing.sha256Hex("current-token")))
+                .thenReturn(Optional.of(refreshToken));
+        when(jwtConfig.refreshExpirationMs()).thenReturn(604800000L);
+        when(refreshTokenRepository.rotate(any(), any(), any(), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> authService.refresh(new RefreshTokenRequest("current-token")))
+                .isInstanceOf(InvalidTokenException.class);
+        verify(tokenProvider, never()).generateToken(any());
     }
 
     @Test
     void refresh_expiredToken_shouldThrow() {
         RefreshToken refreshToken = new RefreshToken();
-        refreshToken.setToken("expired-token");
+        refreshToken.setTokenHash(TokenHashing.sha256Hex("expired-token"));
         refreshToken.setExpiryDate(Instant.now().minusSeconds(3600));
 
-        when(refreshTokenRepository.findByToken("expired-token")).thenReturn(Optional.of(refreshToken));
+        when(refreshTokenRepository.findByTokenHash(TokenHashing.sha256Hex("expired-token"))).thenReturn(Optional.of(refreshToken));
 
         assertThatThrownBy(() -> authService.refresh(new RefreshTokenRequest("expired-token")))
                 .isInstanceOf(InvalidTokenException.class)
@@ -95,7 +133,7 @@ class AuthServiceTest {
 
     @Test
     void refresh_invalidToken_shouldThrow() {
-        when(refreshTokenRepository.findByToken("invalid")).thenReturn(Optional.empty());
+        when(refreshTokenRepository.findByTokenHash(TokenHashing.sha256Hex("invalid"))).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> authService.refresh(new RefreshTokenRequest("invalid")))
                 .isInstanceOf(InvalidTokenException.class)
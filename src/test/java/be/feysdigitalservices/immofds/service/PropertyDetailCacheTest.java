@@ -0,0 +1,77 @@
+package be.feysdigitalservices.immofds.service;
+
+import be.feysdigitalservices.immofds.TestDataFactory;
+import be.feysdigitalservices.immofds.config.PropertyCacheConfig;
+import be.feysdigitalservices.immofds.dto.response.PropertyDetailResponse;
+import be.feysdigitalservices.immofds.event.PropertyChangedEvent;
+import be.feysdigitalservices.immofds.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class PropertyDetailCacheTest {
+
+    private PropertyService propertyService;
+    private PropertyDetailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        propertyService = mock(PropertyService.class);
+        cache = new PropertyDetailCache(propertyService, JsonMapper.builder().build(),
+                new PropertyCacheConfig(100, Duration.ofMinutes(10), 1024 * 1024, Duration.ofMinutes(2)));
+        when(propertyService.getPublicPropertyByReference("IMM-2026-00001")).thenReturn(detail("IMM-2026-00001"));
+        when(propertyService.getPublicPropertyByReference("IMM-2026-00002")).thenReturn(detail("IMM-2026-00002"));
+    }
+
+    @Test
+    void get_shouldSerializeOnceAndServeBytesAfterwards() {
+        PropertyDetailCache.SerializedDetail first = cache.get("IMM-2026-00001");
+        PropertyDetailCache.SerializedDetail second = cache.get("IMM-2026-00001");
+
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.json(), StandardCharsets.UTF_8)).contains("\"reference\":\"IMM-2026-00001\"");
+        assertThat(first.etag()).startsWith("W/\"");
+        verify(propertyService, times(1)).getPublicPropertyByReference("IMM-2026-00001");
+    }
+
+    @Test
+    void get_notFound_shouldThrowAndCacheNothing() {
+        when(propertyService.getPublicPropertyByReference("NOTFOUND"))
+                .thenThrow(new ResourceNotFoundException("Bien", "référence", "NOTFOUND"));
+
+        assertThatThrownBy(() -> cache.get("NOTFOUND")).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> cache.get("NOTFOUND")).isInstanceOf(ResourceNotFoundException.class);
+        verify(propertyService, times(2)).getPublicPropertyByReference("NOTFOUND");
+    }
+
+    @Test
+    void onPropertyChanged_shouldEvictOnlyThatReference() {
+        cache.get("IMM-2026-00001");
+        cache.get("IMM-2026-00002");
+
+        cache.onPropertyChanged(new PropertyChangedEvent(TestDataFactory.createProperty()));
+        cache.get("IMM-2026-00001");
+        cache.get("IMM-2026-00002");
+
+        verify(propertyService, times(2)).getPublicPropertyByReference("IMM-2026-00001");
+        verify(propertyService, times(1)).getPublicPropertyByReference("IMM-2026-00002");
+    }
+
+    private static PropertyDetailResponse detail(String reference) {
+        return new PropertyDetailResponse(
+                reference, "Belle maison", "Description", "Maison", "Vente", "Publié",
+                new BigDecimal("350000"), 150.0, 3, 2, 7, 2, 2005, "B",
+                true, true, false, true, false, false,
+                "Rue de la Loi", "42", "1000", "Bruxelles", "Bruxelles-Capitale",
+                50.8503, 4.3517, List.of(), "2026-01-01T00:00:00", "2026-01-01T00:00:00");
+    }
+}
@@ -0,0 +1,70 @@
+package be.feysdigitalservices.immofds.service;
+
+import be.feysdigitalservices.immofds.TestDataFactory;
+import be.feysdigitalservices.immofds.config.PropertyCacheConfig;
+import be.feysdigitalservices.immofds.dto.request.PropertySearchCriteria;
+import be.feysdigitalservices.immofds.dto.response.PageResponse;
+import be.feysdigitalservices.immofds.dto.response.PropertySummaryResponse;
+import be.feysdigitalservices.immofds.event.PropertyChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class PropertySearchPageCacheTest {
+
+    private static final PropertySearchCriteria NO_FILTER = new PropertySearchCriteria(
+            null, null, null, null, null, null, null, null, null,
+            null, null, null, null, null, null, null, null, null, null, null);
+    private static final PageRequest LANDING = PageRequest.of(0, 12, Sort.by("createdAt").descending());
+
+    private PropertyService propertyService;
+    private PropertySearchPageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        propertyService = mock(PropertyService.class);
+        cache = new PropertySearchPageCache(propertyService, JsonMapper.builder().build(),
+                new PropertyCacheConfig(100, Duration.ofMinutes(10), 1024 * 1024, Duration.ofMinutes(2)));
+        when(propertyService.searchPublicProperties(any(), any()))
+                .thenReturn(new PageResponse<PropertySummaryResponse>(List.of(), 0, 12, 0, 0, true));
+    }
+
+    @Test
+    void get_shouldSerializeOnceAndServeBytesAfterwards() {
+        PropertySearchPageCache.SerializedPage first = cache.get(NO_FILTER, LANDING);
+        PropertySearchPageCache.SerializedPage second = cache.get(NO_FILTER, PageRequest.of(0, 12, Sort.by("createdAt").descending()));
+
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.json(), StandardCharsets.UTF_8)).contains("\"totalElements\":0");
+        assertThat(first.etag()).startsWith("W/\"");
+        verify(propertyService, times(1)).searchPublicProperties(any(), any());
+    }
+
+    @Test
+    void get_shouldKeepPagesAndSortsApart() {
+        cache.get(NO_FILTER, LANDING);
+        cache.get(NO_FILTER, PageRequest.of(1, 12, Sort.by("createdAt").descending()));
+        cache.get(NO_FILTER, PageRequest.of(0, 12, Sort.by("price").ascending()));
+
+        verify(propertyService, times(3)).searchPublicProperties(any(), any());
+    }
+
+    @Test
+    void onPropertyChanged_shouldPurgeAllPages() {
+        cache.get(NO_FILTER, LANDING);
+
+        cache.onPropertyChanged(new PropertyChangedEvent(TestDataFactory.createProperty()));
+        cache.get(NO_FILTER, LANDING);
+
+        verify(propertyService, times(2)).searchPublicProperties(any(), any());
+    }
+}
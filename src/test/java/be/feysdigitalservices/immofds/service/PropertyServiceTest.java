@@ -5,25 +5,38 @@ import be.feysdigitalservices.immofds.domain.entity.Property;
 import be.feysdigitalservices.immofds.domain.enums.PropertyStatus;
 import be.feysdigitalservices.immofds.dto.request.PropertyCreateRequest;
 import be.feysdigitalservices.immofds.dto.request.PropertySearchCriteria;
+import be.feysdigitalservices.immofds.dto.response.CursorPageResponse;
 import be.feysdigitalservices.immofds.dto.response.PageResponse;
 import be.feysdigitalservices.immofds.dto.response.PropertyDetailResponse;
 import be.feysdigitalservices.immofds.dto.response.PropertySummaryResponse;
+import be.feysdigitalservices.immofds.event.PropertyChangedEvent;
 import be.feysdigitalservices.immofds.exception.InvalidOperationException;
 import be.feysdigitalservices.immofds.exception.ResourceNotFoundException;
 import be.feysdigitalservices.immofds.mapper.PropertyMapper;
+import be.feysdigitalservices.immofds.repository.PropertyImageRef;
+import be.feysdigitalservices.immofds.repository.PropertyImageRepository;
 import be.feysdigitalservices.immofds.repository.PropertyRepository;
+import be.feysdigitalservices.immofds.repository.PropertySummaryRow;
+import be.feysdigitalservices.immofds.search.PropertySearchIndex;
+import be.feysdigitalservices.immofds.specification.PropertyCursor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -36,29 +49,41 @@ class PropertyServiceTest {
     @Mock
     private PropertyRepository propertyRepository;
 
+    @Mock
+    private PropertyImageRepository imageRepository;
+
     @Mock
     private PropertyMapper propertyMapper;
 
     @Mock
     private ReferenceGeneratorService referenceGeneratorService;
 
+    @Mock
+    private PropertySearchIndex searchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private PropertyService propertyService;
 
     @Test
     void searchPublicProperties_shouldReturnPageResponse() {
-        Property property = TestDataFactory.createProperty();
-        Page<Property> page = new PageImpl<>(List.of(property));
+        PropertySummaryRow row = TestDataFactory.createPropertySummaryRow();
+        Page<PropertySummaryRow> page = new PageImpl<>(List.of(row));
         PropertySummaryResponse summary = new PropertySummaryResponse(
                 "IMM-2026-00001", "Belle maison", "Maison", "Vente", "Publié",
-                property.getPrice(), 150.0, 3, 2, "Bruxelles", "Bruxelles-Capitale", "B", null, null, null, "2026-01-01T00:00:00");
+                row.price(), 150.0, 3, 2, "Bruxelles", "Bruxelles-Capitale", "B", null, null, null, "2026-01-01T00:00:00");
 
-        when(propertyRepository.findAll(any(Specification.class), any(PageRequest.class))).thenReturn(page);
-        when(propertyMapper.toSummaryResponse(property)).thenReturn(summary);
+        when(propertyRepository.findSummaries(any(Specification.class), any(PageRequest.class))).thenReturn(page);
+        when(propertyMapper.toSummaryResponse(row, null)).thenReturn(summary);
 
         PropertySearchCriteria criteria = new PropertySearchCriteria(
                 null, null, null, null, null, null, null, null, null,
-                null, null, null, null, null, null, null);
+                null, null, null, null, null, null, null, null, null, null, null);
 
         PageResponse<PropertySummaryResponse> result = propertyService.searchPublicProperties(
                 criteria, PageRequest.of(0, 12));
@@ -67,6 +92,108 @@ class PropertyServiceTest {
         assertThat(result.content().get(0).reference()).isEqualTo("IMM-2026-00001");
     }
 
+    @Test
+    void searchPublicProperties_withIndex_shouldLoadOnlyPageIds() {
+        PropertySummaryRow row = TestDataFactory.createPropertySummaryRow();
+        PropertySummaryResponse summary = mock(PropertySummaryResponse.class);
+        PageRequest pageable = PageRequest.of(0, 12, Sort.by("createdAt").descending());
+        PropertySearchCriteria criteria = new PropertySearchCriteria(
+                null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null, null, null);
+
+        when(searchIndex.search(criteria, pageable))
+                .thenReturn(Optional.of(new PropertySearchIndex.Result(List.of(1L), 1)));
+        when(propertyRepository.findSummaries(any(Specification.class), eq(Sort.unsorted()), eq(Limit.unlimited())))
+                .thenReturn(List.of(row));
+        when(propertyMapper.toSummaryResponse(row, null)).thenReturn(summary);
+
+        PageResponse<PropertySummaryResponse> result = propertyService.searchPublicProperties(criteria, pageable);
+
+        assertThat(result.content()).containsExactly(summary);
+        assertThat(result.totalElements()).isEqualTo(1);
+        verify(propertyRepository, never()).findSummaries(any(Specification.class), any(PageRequest.class));
+    }
+
+    @Test
+    void searchAdminProperties_shouldResolvePrimaryImagesInOneQuery() {
+        PropertySummaryRow first = TestDataFactory.createPropertySummaryRow();
+        PropertySummaryRow second = withIdAndPrice(first, 2L, first.price());
+        PropertySearchCriteria criteria = new PropertySearchCriteria(
+                null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null, null, null);
+
+        when(propertyRepository.findSummaries(any(Specification.class), any(PageRequest.class)))
+                .thenReturn(new PageImpl<>(List.of(first, second)));
+        when(imageRepository.findImageRefsByPropertyIds(List.of(1L, 2L))).thenReturn(List.of(
+                new PropertyImageRef(1L, 11L), new PropertyImageRef(1L, 10L), new PropertyImageRef(2L, 20L)));
+        when(propertyMapper.toSummaryResponse(first, 11L)).thenReturn(mock(PropertySummaryResponse.class));
+        when(propertyMapper.toSummaryResponse(second, 20L)).thenReturn(mock(PropertySummaryResponse.class));
+
+        PageResponse<PropertySummaryResponse> result = propertyService.searchAdminProperties(
+                criteria, PageRequest.of(0, 12));
+
+        assertThat(result.content()).hasSize(2);
+        verify(imageRepository, times(1)).findImageRefsByPropertyIds(any());
+    }
+
+    @Test
+    void scrollPublicProperties_withMoreRows_shouldReturnNextCursor() {
+        PropertySummaryRow first = TestDataFactory.createPropertySummaryRow();
+        PropertySummaryRow second = withIdAndPrice(first, 2L, new BigDecimal("300000.00"));
+        PropertySearchCriteria criteria = new PropertySearchCriteria(
+                null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null, null, null);
+
+        when(propertyRepository.findSummaries(any(Specification.class), any(Sort.class), eq(Limit.of(2))))
+                .thenReturn(List.of(first, second));
+        when(propertyMapper.toSummaryResponse(first, null)).thenReturn(mock(PropertySummaryResponse.class));
+
+        CursorPageResponse<PropertySummaryResponse> result = propertyService.scrollPublicProperties(
+                criteria, null, 1, Sort.Order.desc("price"), false);
+
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.last()).isFalse();
+        assertThat(result.totalElements()).isNull();
+        assertThat(PropertyCursor.decode(result.nextCursor()).value()).isEqualTo("350000.00");
+        verify(propertyRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    void scrollPublicProperties_withText_shouldPageFromIndex() {
+        PropertySummaryRow first = TestDataFactory.createPropertySummaryRow();
+        PropertySummaryRow second = withIdAndPrice(first, 2L, new BigDecimal("300000.00"));
+        PropertySearchCriteria criteria = new PropertySearchCriteria(
+                null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, "maison", null, null, null);
+
+        when(searchIndex.scroll(criteria, Sort.Order.desc("price"), null, null, 2))
+                .thenReturn(Optional.of(List.of(1L, 2L)));
+        when(searchIndex.count(criteria)).thenReturn(OptionalLong.of(40));
+        when(propertyRepository.findSummaries(any(Specification.class), eq(Sort.unsorted()), eq(Limit.unlimited())))
+                .thenReturn(List.of(second, first));
+        when(propertyMapper.toSummaryResponse(first, null)).thenReturn(mock(PropertySummaryResponse.class));
+
+        CursorPageResponse<PropertySummaryResponse> result = propertyService.scrollPublicProperties(
+                criteria, null, 1, Sort.Order.desc("price"), true);
+
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.last()).isFalse();
+        assertThat(result.totalElements()).isEqualTo(40);
+        assertThat(PropertyCursor.decode(result.nextCursor()).value()).isEqualTo("350000.00");
+        verify(propertyRepository, never()).findSummaries(any(Specification.class), any(Sort.class), eq(Limit.of(2)));
+    }
+
+    @Test
+    void scrollAdminProperties_unsupportedSort_shouldThrow() {
+        PropertySearchCriteria criteria = new PropertySearchCriteria(
+                null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null, null, null);
+
+        assertThatThrownBy(() -> propertyService.scrollAdminProperties(
+                criteria, null, 20, Sort.Order.asc("surface"), false))
+                .isInstanceOf(InvalidOperationException.class);
+    }
+
     @Test
     void getPublicPropertyByReference_shouldReturnDetailResponse() {
         Property property = TestDataFactory.createProperty();
@@ -106,6 +233,7 @@ class PropertyServiceTest {
 
         assertThat(result).isNotNull();
         verify(propertyRepository).save(any(Property.class));
+        verify(eventPublisher).publishEvent(any(PropertyChangedEvent.class));
     }
 
     @Test
@@ -146,4 +274,10 @@ class PropertyServiceTest {
 
         assertThat(property.getStatus()).isEqualTo(PropertyStatus.ARCHIVED);
     }
+
+    private static PropertySummaryRow withIdAndPrice(PropertySummaryRow row, Long id, BigDecimal price) {
+        return new PropertySummaryRow(id, row.reference(), row.title(), row.propertyType(), row.transactionType(),
+                row.status(), price, row.surface(), row.bedrooms(), row.bathrooms(), row.city(), row.province(),
+                row.energyRating(), row.latitude(), row.longitude(), row.createdAt(), row.updatedAt());
+    }
 }
@@ -0,0 +1,65 @@
+package be.feysdigitalservices.immofds.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Year;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReferenceGeneratorServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ReferenceGeneratorService generator;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        generator = new ReferenceGeneratorService(jdbcTemplate, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void generateReference_shouldReserveOneBlockPerBlockSize() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), any(), any()))
+                .thenReturn(1L + ReferenceGeneratorService.BLOCK_SIZE, 1L + 2 * ReferenceGeneratorService.BLOCK_SIZE);
+        int year = Year.now().getValue();
+
+        assertThat(generator.generateReference()).isEqualTo("IMM-" + year + "-00001");
+        for (int i = 1; i < ReferenceGeneratorService.BLOCK_SIZE; i++) {
+            generator.generateReference();
+        }
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), eq(Long.class), any(), any());
+
+        assertThat(generator.generateReference()).isEqualTo("IMM-" + year + "-00051");
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), eq(Long.class), any(), any());
+    }
+
+    @Test
+    void generateReference_insideTransaction_shouldThrow() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThatThrownBy(() -> generator.generateReference()).isInstanceOf(IllegalStateException.class);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Test
+    void format_shouldMatchStringFormat() {
+        for (long number : new long[]{1, 42, 99_999, 100_000, 1_234_567}) {
+            assertThat(ReferenceGeneratorService.format(2026, number))
+                    .isEqualTo(String.format("IMM-%d-%05d", 2026, number));
+        }
+    }
+}
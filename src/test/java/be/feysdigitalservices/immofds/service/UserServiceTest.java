@@ -3,7 +3,9 @@ package be.feysdigitalservices.immofds.service;
 import be.feysdigitalservices.immofds.TestDataFactory;
 import be.feysdigitalservices.immofds.domain.entity.User;
 import be.feysdigitalservices.immofds.dto.request.UserCreateRequest;
+import be.feysdigitalservices.immofds.dto.request.UserUpdateRequest;
 import be.feysdigitalservices.immofds.dto.response.UserResponse;
+import be.feysdigitalservices.immofds.event.UserTokenVersionChangedEvent;
 import be.feysdigitalservices.immofds.exception.DuplicateResourceException;
 import be.feysdigitalservices.immofds.exception.ResourceNotFoundException;
 import be.feysdigitalservices.immofds.mapper.UserMapper;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -34,6 +37,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -87,4 +93,41 @@ class UserServiceTest {
 
         assertThat(result).isNotNull();
     }
+
+    @Test
+    void updateUser_deactivation_shouldRevokeIssuedTokens() {
+        User user = TestDataFactory.createUser();
+        UserUpdateRequest request = new UserUpdateRequest(user.getEmail(), "Admin", "ImmoFDS", user.getRole(), false);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).thenReturn(user);
+
+        userService.updateUser(1L, request);
+
+        assertThat(user.getTokenVersion()).isEqualTo(1);
+        verify(eventPublisher).publishEvent(new UserTokenVersionChangedEvent(1L, 1));
+    }
+
+    @Test
+    void updateUser_nameOnly_shouldKeepIssuedTokens() {
+        User user = TestDataFactory.createUser();
+        UserUpdateRequest request = new UserUpdateRequest(user.getEmail(), "Jean", "Dupont", user.getRole(), true);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).thenReturn(user);
+
+        userService.updateUser(1L, request);
+
+        assertThat(user.getTokenVersion()).isZero();
+    }
+
+    @Test
+    void deleteUser_shouldRevokeIssuedTokens() {
+        User user = TestDataFactory.createUser();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        userService.deleteUser(1L);
+
+        verify(eventPublisher).publishEvent(new UserTokenVersionChangedEvent(1L, null));
+    }
 }
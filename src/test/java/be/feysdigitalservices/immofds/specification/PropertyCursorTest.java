@@ -0,0 +1,46 @@
+package be.feysdigitalservices.immofds.specification;
+
+import be.feysdigitalservices.immofds.TestDataFactory;
+import be.feysdigitalservices.immofds.exception.InvalidOperationException;
+import be.feysdigitalservices.immofds.repository.PropertySummaryRow;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PropertyCursorTest {
+
+    @Test
+    void encodeThenDecode_shouldRoundTrip() {
+        PropertySummaryRow row = TestDataFactory.createPropertySummaryRow();
+
+        PropertyCursor cursor = PropertyCursor.after(row, Sort.Order.desc("price"));
+        PropertyCursor decoded = PropertyCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.value()).isEqualTo("350000.00");
+        assertThat(decoded.id()).isEqualTo(1L);
+        assertThat(decoded.matches(Sort.Order.desc("price"))).isTrue();
+        assertThat(decoded.matches(Sort.Order.asc("price"))).isFalse();
+    }
+
+    @Test
+    void toSpecification_shouldReturnNonNull() {
+        PropertyCursor cursor = new PropertyCursor("createdAt", false, "2026-01-01T10:00:00", 42L);
+        assertThat(cursor.toSpecification()).isNotNull();
+    }
+
+    @Test
+    void supports_nullableColumn_shouldBeFalse() {
+        assertThat(PropertyCursor.supports("createdAt")).isTrue();
+        assertThat(PropertyCursor.supports("surface")).isFalse();
+    }
+
+    @Test
+    void decode_garbage_shouldThrow() {
+        assertThatThrownBy(() -> PropertyCursor.decode("not-a-cursor!"))
+                .isInstanceOf(InvalidOperationException.class)
+                .hasMessageContaining("Curseur");
+    }
+}
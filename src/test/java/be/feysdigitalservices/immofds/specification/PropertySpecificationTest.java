@@ -2,12 +2,16 @@ package be.feysdigitalservices.immofds.specification;
 
 import be.feysdigitalservices.immofds.domain.entity.Property;
 import be.feysdigitalservices.immofds.domain.enums.*;
+import be.feysdigitalservices.immofds.dto.request.BoundingBox;
+import be.feysdigitalservices.immofds.dto.request.GeoPoint;
+import be.feysdigitalservices.immofds.exception.InvalidOperationException;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class PropertySpecificationTest {
 
@@ -60,4 +64,23 @@ class PropertySpecificationTest {
                 .and(PropertySpecification.hasGarden(true));
         assertThat(spec).isNotNull();
     }
+
+    @Test
+    void geoSpecifications_shouldBeComposable() {
+        Specification<Property> spec = Specification
+                .where(PropertySpecification.isWithinBounds(BoundingBox.parse("4.30,50.80,4.40,50.90")))
+                .and(PropertySpecification.isWithinRadius(GeoPoint.parse("50.85,4.35"), 5.0));
+        assertThat(spec).isNotNull();
+    }
+
+    @Test
+    void geoParameters_withInvalidFormat_shouldBeRejected() {
+        assertThat(GeoPoint.parse(null)).isNull();
+        assertThatThrownBy(() -> GeoPoint.parse("50.85"))
+                .isInstanceOf(InvalidOperationException.class);
+        assertThatThrownBy(() -> GeoPoint.parse("95,4.35"))
+                .isInstanceOf(InvalidOperationException.class);
+        assertThatThrownBy(() -> BoundingBox.parse("4.40,50.80,4.30,50.90"))
+                .isInstanceOf(InvalidOperationException.class);
+    }
 }
@@ -0,0 +1,60 @@
+package be.feysdigitalservices.immofds.storage;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageResizerTest {
+
+    @Test
+    void scale_shouldFitLongestSideAndKeepRatio() {
+        BufferedImage source = new BufferedImage(3000, 2000, BufferedImage.TYPE_INT_RGB);
+
+        BufferedImage scaled = ImageResizer.scale(source, 480);
+
+        assertThat(scaled.getWidth()).isEqualTo(480);
+        assertThat(scaled.getHeight()).isEqualTo(320);
+    }
+
+    @Test
+    void scale_shouldNotUpscale() {
+        BufferedImage source = new BufferedImage(300, 200, BufferedImage.TYPE_INT_RGB);
+
+        assertThat(ImageResizer.scale(source, 1024)).isSameAs(source);
+    }
+
+    @Test
+    void encode_shouldWriteJpegForOpaqueAndPngForTransparentImages() throws Exception {
+        ImageResizer.Encoded opaque = ImageResizer.encode(new BufferedImage(40, 30, BufferedImage.TYPE_INT_RGB));
+        ImageResizer.Encoded transparent = ImageResizer.encode(new BufferedImage(40, 30, BufferedImage.TYPE_INT_ARGB));
+
+        assertThat(opaque.contentType()).isEqualTo("image/jpeg");
+        assertThat(transparent.contentType()).isEqualTo("image/png");
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(opaque.bytes()));
+        assertThat(decoded.getWidth()).isEqualTo(40);
+        assertThat(decoded.getHeight()).isEqualTo(30);
+    }
+
+    @Test
+    void read_shouldDecodeSupportedFormats() throws Exception {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB), "png", png);
+
+        BufferedImage image = ImageResizer.read(new ByteArrayInputStream(png.toByteArray()));
+
+        assertThat(image.getWidth()).isEqualTo(64);
+    }
+
+    @Test
+    void read_shouldReturnNullForUnsupportedFormats() throws Exception {
+        byte[] webp = "RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.ISO_8859_1);
+
+        assertThat(ImageResizer.read(new ByteArrayInputStream(webp))).isNull();
+    }
+}
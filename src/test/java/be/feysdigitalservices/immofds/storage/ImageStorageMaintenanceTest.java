@@ -0,0 +1,88 @@
+package be.feysdigitalservices.immofds.storage;
+
+import be.feysdigitalservices.immofds.config.ImageStorageConfig;
+import be.feysdigitalservices.immofds.exception.ResourceNotFoundException;
+import be.feysdigitalservices.immofds.repository.PropertyImageRepository;
+import be.feysdigitalservices.immofds.repository.PropertyImageVariantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ImageStorageMaintenanceTest {
+
+    @TempDir
+    Path root;
+
+    private LocalImageStorage storage;
+    private PropertyImageRepository imageRepository;
+    private ImageStorageMaintenance maintenance;
+
+    @BeforeEach
+    void setUp() {
+        ImageStorageConfig config = new ImageStorageConfig(root.toString(), false, 20, Duration.ofHours(24));
+        storage = new LocalImageStorage(config);
+        imageRepository = mock(PropertyImageRepository.class);
+        PropertyImageVariantRepository variantRepository = mock(PropertyImageVariantRepository.class);
+        when(variantRepository.findAllStorageKeys()).thenReturn(List.of());
+        maintenance = new ImageStorageMaintenance(storage, imageRepository, variantRepository,
+                mock(JdbcTemplate.class), mock(TransactionTemplate.class), config);
+    }
+
+    @Test
+    void deleteOrphanBlobs_shouldDeleteOnlyOldUnreferencedBlobs() throws Exception {
+        String orphan = storeOld("orphan");
+        String referenced = storeOld("referenced");
+        String recent = storage.store(stream("recent")).key();
+        when(imageRepository.findAllStorageKeys()).thenReturn(List.of(referenced));
+
+        maintenance.deleteOrphanBlobs();
+
+        assertThatThrownBy(() -> storage.load(orphan)).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(storage.load(referenced).exists()).isTrue();
+        assertThat(storage.load(recent).exists()).isTrue();
+    }
+
+    @Test
+    void deleteOrphanBlobs_duplicateUploadAfterListing_shouldKeepBlob() throws Exception {
+        String key = storeOld("hello");
+        // The upload reuses the blob once the sweep has listed it; its row is not committed yet
+        when(imageRepository.findAllStorageKeys()).thenAnswer(invocation -> {
+            storage.store(stream("hello"));
+            return List.of();
+        });
+
+        maintenance.deleteOrphanBlobs();
+
+        try (InputStream in = storage.load(key).getInputStream()) {
+            assertThat(in.readAllBytes()).isEqualTo("hello".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private String storeOld(String content) throws Exception {
+        String key = storage.store(stream(content)).key();
+        Path path = root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+        return key;
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,92 @@
+package be.feysdigitalservices.immofds.storage;
+
+import be.feysdigitalservices.immofds.config.ImageStorageConfig;
+import be.feysdigitalservices.immofds.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalImageStorageTest {
+
+    // SHA-256 de "hello"
+    private static final String HELLO_KEY = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    @TempDir
+    Path root;
+
+    private LocalImageStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalImageStorage(new ImageStorageConfig(root.toString(), false, 20, Duration.ofHours(24)));
+    }
+
+    @Test
+    void store_shouldAddressContentBySha256() throws Exception {
+        StoredImage stored = storage.store(stream("hello"));
+
+        assertThat(stored.key()).isEqualTo(HELLO_KEY);
+        assertThat(stored.size()).isEqualTo(5);
+        assertThat(root.resolve("2c").resolve("f2").resolve(HELLO_KEY)).hasContent("hello");
+        try (InputStream in = storage.load(HELLO_KEY).getInputStream()) {
+            assertThat(in.readAllBytes()).isEqualTo("hello".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void store_shouldDeduplicateIdenticalContent() throws Exception {
+        StoredImage first = storage.store(stream("hello"));
+        StoredImage second = storage.store(stream("hello"));
+
+        assertThat(second.key()).isEqualTo(first.key());
+        assertThat(storage.listKeysOlderThan(Instant.now().plusSeconds(60))).containsExactly(HELLO_KEY);
+        try (var incoming = Files.list(root.resolve("incoming"))) {
+            assertThat(incoming).isEmpty();
+        }
+    }
+
+    @Test
+    void listKeysOlderThan_shouldSkipRecentBlobs() throws Exception {
+        StoredImage old = storage.store(stream("old"));
+        storage.store(stream("recent"));
+        Path oldPath = root.resolve(old.key().substring(0, 2)).resolve(old.key().substring(2, 4)).resolve(old.key());
+        Files.setLastModifiedTime(oldPath, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+
+        assertThat(storage.listKeysOlderThan(Instant.now().minus(Duration.ofDays(1)))).containsExactly(old.key());
+    }
+
+    @Test
+    void deleteIfOlderThan_shouldRemoveOnlyBlobsNotStoredSince() throws Exception {
+        storage.store(stream("hello"));
+
+        assertThat(storage.deleteIfOlderThan(HELLO_KEY, Instant.now().minusSeconds(60))).isFalse();
+        assertThat(storage.load(HELLO_KEY).exists()).isTrue();
+
+        assertThat(storage.deleteIfOlderThan(HELLO_KEY, Instant.now().plusSeconds(60))).isTrue();
+        assertThatThrownBy(() -> storage.load(HELLO_KEY)).isInstanceOf(ResourceNotFoundException.class);
+        try (var incoming = Files.list(root.resolve("incoming"))) {
+            assertThat(incoming).isEmpty();
+        }
+    }
+
+    @Test
+    void load_shouldRejectKeysOutsideTheStore() {
+        assertThatThrownBy(() -> storage.load("../../etc/passwd")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
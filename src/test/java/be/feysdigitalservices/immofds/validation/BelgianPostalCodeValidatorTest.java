@@ -41,4 +41,16 @@ class BelgianPostalCodeValidatorTest {
     void invalidPostalCodes_shouldBeInvalid(String postalCode) {
         assertThat(validator.isValid(postalCode, context)).isFalse();
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1", "10", "105", "1050"})
+    void typedPrefixes_shouldBePostalCodePrefixes(String prefix) {
+        assertThat(BelgianPostalCodeValidator.isBelgianPostalCodePrefix(prefix)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "01", "10500", "1A"})
+    void invalidPrefixes_shouldNotBePostalCodePrefixes(String prefix) {
+        assertThat(BelgianPostalCodeValidator.isBelgianPostalCodePrefix(prefix)).isFalse();
+    }
 }